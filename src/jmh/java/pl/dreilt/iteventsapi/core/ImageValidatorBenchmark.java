@@ -0,0 +1,158 @@
+package pl.dreilt.iteventsapi.core;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ImageValidatorBenchmark {
+    @Param({"480x270", "1920x1080", "4000x3000"})
+    private String dimensions;
+    private MultipartFile image;
+    private ConstraintValidatorContext context;
+    private ImageValidator imageValidator;
+    private LegacyImageValidator legacyImageValidator;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = dimensions.split("x");
+        image = new MockMultipartFile("image", "image.png", "image/png",
+                createImage(Integer.parseInt(size[0]), Integer.parseInt(size[1])));
+        context = noOp(ConstraintValidatorContext.class);
+        Image constraint = image(480, 270);
+        imageValidator = new ImageValidator();
+        imageValidator.initialize(constraint);
+        legacyImageValidator = new LegacyImageValidator();
+        legacyImageValidator.initialize(constraint);
+    }
+
+    @Benchmark
+    public boolean headerOnly() {
+        return imageValidator.isValid(image, context);
+    }
+
+    @Benchmark
+    public boolean fullDecode() {
+        return legacyImageValidator.isValid(image, context);
+    }
+
+    private static byte[] createImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static Image image(int width, int height) {
+        return new Image() {
+            public int width() {
+                return width;
+            }
+
+            public int height() {
+                return height;
+            }
+
+            public String message() {
+                return "";
+            }
+
+            public Class<?>[] groups() {
+                return new Class<?>[0];
+            }
+
+            @SuppressWarnings("unchecked")
+            public Class<? extends javax.validation.Payload>[] payload() {
+                return new Class[0];
+            }
+
+            public Class<? extends Annotation> annotationType() {
+                return Image.class;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                method.getReturnType().isInterface() ? noOp(method.getReturnType()) : null);
+    }
+
+    static class LegacyImageValidator implements ConstraintValidator<Image, MultipartFile> {
+        private int width;
+        private int height;
+
+        @Override
+        public void initialize(Image constraintAnnotation) {
+            this.width = constraintAnnotation.width();
+            this.height = constraintAnnotation.height();
+        }
+
+        @Override
+        public boolean isValid(MultipartFile image, ConstraintValidatorContext context) {
+            List<String> errorMessages = new ArrayList<>();
+            String message;
+
+            if (image != null && !image.isEmpty()) {
+                String[] allowedFileTypes = new String[] { "image/jpeg", "image/jpg", "image/png" };
+                String fileType = image.getContentType();
+                boolean isFileTypeValid = Arrays.stream(allowedFileTypes).anyMatch(fileType::equals);
+
+                if (!isFileTypeValid) {
+                    message = "{form.field.image.error.invalidFileType.message}";
+                    errorMessages.add(message);
+                }
+
+                if (isFileTypeValid) {
+                    try {
+                        ImageInputStream imageInputStream = ImageIO.createImageInputStream(image.getInputStream());
+                        BufferedImage bufferedImage = ImageIO.read(imageInputStream);
+                        if (bufferedImage.getWidth() > width || bufferedImage.getHeight() > height) {
+                            message = "{form.field.image.error.invalidImageSize.message}";
+                            errorMessages.add(message);
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
+                if (image.getSize() > 2097152) {
+                    message = "{form.field.image.error.invalidFileSize.message}";
+                    errorMessages.add(message);
+                }
+
+                if (errorMessages.size() > 0) {
+                    context.disableDefaultConstraintViolation();
+                    for (String errorMessage : errorMessages) {
+                        context.buildConstraintViolationWithTemplate(errorMessage).addConstraintViolation();
+                    }
+
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
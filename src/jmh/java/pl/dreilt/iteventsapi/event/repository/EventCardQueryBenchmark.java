@@ -0,0 +1,106 @@
+package pl.dreilt.iteventsapi.event.repository;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.ItEventsApi;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.EventCreator;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
+import static pl.dreilt.iteventsapi.creator.EventImageCreator.createDefaultEventImage;
+import static pl.dreilt.iteventsapi.creator.ProfileImageCreator.createDefaultProfileImage;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EventCardQueryBenchmark {
+    private static final int EVENT_COUNT = 200;
+    private static final int ORGANIZER_COUNT = 10;
+    private static final PageRequest PAGE_REQUEST = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private LocalDateTime currentDateTime;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ItEventsApi.class)
+                .properties("server.port=0", "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "logging.level.root=WARN")
+                .run();
+        eventRepository = context.getBean(EventRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        currentDateTime = LocalDateTime.now();
+        AppUserRepository appUserRepository = context.getBean(AppUserRepository.class);
+        ProfileImageRepository profileImageRepository = context.getBean(ProfileImageRepository.class);
+        EventImageRepository eventImageRepository = context.getBean(EventImageRepository.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            List<AppUser> organizers = new ArrayList<>();
+            for (int i = 0; i < ORGANIZER_COUNT; i++) {
+                organizers.add(appUserRepository.save(AppUserCreator.create("Benchmark", "Organizer" + i, profileImageRepository.save(createDefaultProfileImage()), ROLE_ORGANIZER)));
+            }
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                eventRepository.save(EventCreator.create("Java Dev Talks #" + i, eventImageRepository.save(createDefaultEventImage()), currentDateTime.plusDays(i + 1L), organizers.get(i % ORGANIZER_COUNT)));
+            }
+        });
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void clearStatistics() {
+        statistics.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatistics() {
+        long pages = statistics.getTransactionCount();
+        if (pages > 0) {
+            System.out.println();
+            System.out.println("Per page: statements=" + statistics.getPrepareStatementCount() / (double) pages
+                    + ", entitiesLoaded=" + statistics.getEntityLoadCount() / (double) pages);
+        }
+    }
+
+    @Benchmark
+    public List<EventCardDTO> entities() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT e FROM Event e WHERE e.dateTime > :currentDateTime ORDER BY e.dateTime ASC", Event.class)
+                .setParameter("currentDateTime", currentDateTime)
+                .setMaxResults(PAGE_REQUEST.getPageSize() + 1)
+                .getResultStream()
+                .map(event -> new EventCardDTO(event.getId(), event.getDateTime(), event.getName(), event.getCity(), event.getEventType(), event.getAdmission()))
+                .toList());
+    }
+
+    @Benchmark
+    public List<EventCardDTO> projection() {
+        return transactionTemplate.execute(status -> eventRepository.findAllUpcomingEvents(currentDateTime, PAGE_REQUEST).getContent());
+    }
+}
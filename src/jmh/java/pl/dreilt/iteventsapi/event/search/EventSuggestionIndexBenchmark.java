@@ -0,0 +1,48 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.openjdk.jmh.annotations.*;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.service.CityCatalogServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class EventSuggestionIndexBenchmark {
+    private static final String[] CITIES = {"Rzeszów", "Kraków", "Warszawa", "Wrocław", "Łódź", "Gdańsk", "Poznań", "Katowice", "Lublin", "Białystok"};
+    private static final String[] TOPICS = {"Java", "Kotlin", "Spring", "JavaScript", "Python", "DevOps", "Kubernetes", "Testing", "Data", "Cloud"};
+    private static final String[] FORMATS = {"Dev Talks", "Meetup", "Conference", "Workshop", "Hackathon"};
+    @Param({"1000", "10000"})
+    private int eventCount;
+    @Param({"j", "java", "krak"})
+    private String prefix;
+    private EventSuggestionIndex eventSuggestionIndex;
+    private LocalDateTime currentDateTime;
+    private long updates;
+
+    @Setup
+    public void setUp() {
+        eventSuggestionIndex = new EventSuggestionIndex(new CityCatalogServiceImpl(null));
+        currentDateTime = LocalDateTime.now();
+        Random random = new Random(42);
+        for (long id = 1; id <= eventCount; id++) {
+            String name = TOPICS[random.nextInt(TOPICS.length)] + " " + FORMATS[random.nextInt(FORMATS.length)] + " #" + random.nextInt(200);
+            eventSuggestionIndex.index(id, name, CITIES[random.nextInt(CITIES.length)], currentDateTime.plusHours(random.nextInt(24 * 365)));
+        }
+    }
+
+    @Benchmark
+    public List<EventSuggestionDTO> suggest() {
+        return eventSuggestionIndex.suggest(prefix, currentDateTime);
+    }
+
+    @Benchmark
+    public List<EventSuggestionDTO> suggestAfterUpdate() {
+        eventSuggestionIndex.index(1L, "Java Dev Talks #" + (updates++ % 2), "Rzeszów", currentDateTime.plusDays(1L));
+        return eventSuggestionIndex.suggest(prefix, currentDateTime);
+    }
+}
@@ -0,0 +1,106 @@
+package pl.dreilt.iteventsapi.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.model.Role;
+import pl.dreilt.iteventsapi.image.mapper.ImageUrlMapper;
+import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
+
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(jvmArgsAppend = {"-Djol.magicFieldOffset=true", "-Djdk.attach.allowAttachSelf"})
+public class AppUserDetailsBenchmark {
+    @Param({"10240", "524288", "2097152"})
+    private int profileImageSize;
+    private AppUser user;
+    private byte[] profileImageData;
+
+    @Setup
+    public void setUp() {
+        profileImageData = new byte[profileImageSize];
+        new Random(42).nextBytes(profileImageData);
+        ProfileImage profileImage = ProfileImage.builder()
+                .id(1L)
+                .fileName("avatar.png")
+                .fileType("image/png")
+                .fileData(profileImageData)
+                .build();
+        user = AppUser.builder()
+                .id(1L)
+                .profileImage(profileImage)
+                .firstName("Jan")
+                .lastName("Kowalski")
+                .dateOfBirth(LocalDate.of(1995, 10, 6))
+                .email("jankowalski@example.com")
+                .password("{bcrypt}$2a$10$2pZqxIPWTiwqmN.ApjAQsOC6Q/ql4canuxFiZruGYDvZ5RRYDMDr6")
+                .enabled(true)
+                .accountNonLocked(true)
+                .roles(List.of(Role.ROLE_USER))
+                .build();
+    }
+
+    @TearDown
+    public void printRetainedSize() {
+        System.out.println();
+        System.out.println("Retained bytes per principal [profileImageSize=" + profileImageSize + "]: "
+                + "withImageData=" + GraphLayout.parseInstance(withImageData()).totalSize()
+                + ", slim=" + GraphLayout.parseInstance(slim()).totalSize());
+    }
+
+    @Benchmark
+    public User withImageData() {
+        return new LegacyAppUserDetails(
+                user,
+                user.getProfileImage().getFileType(),
+                Base64.getEncoder().encodeToString(profileImageData)
+        );
+    }
+
+    @Benchmark
+    public User slim() {
+        return new AppUserDetails.AppUserDetailsBuilder()
+                .id(user.getId())
+                .profileImageUrl(ImageUrlMapper.mapToProfileImageUrl(user.getProfileImage()))
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .username(user.getEmail())
+                .password(user.getPassword())
+                .enabled(user.isEnabled())
+                .accountNonLocked(user.isAccountNonLocked())
+                .authorities(authorities(user))
+                .build();
+    }
+
+    private static Collection<GrantedAuthority> authorities(AppUser user) {
+        return user.getRoles()
+                .stream()
+                .map(role -> (GrantedAuthority) role::name)
+                .toList();
+    }
+
+    static class LegacyAppUserDetails extends User {
+        private final String profileImageType;
+        private final String profileImageData;
+        private final String firstName;
+        private final String lastName;
+
+        LegacyAppUserDetails(AppUser user, String profileImageType, String profileImageData) {
+            super(user.getEmail(), user.getPassword(), user.isEnabled(), true, true, user.isAccountNonLocked(), authorities(user));
+            this.profileImageType = profileImageType;
+            this.profileImageData = profileImageData;
+            this.firstName = user.getFirstName();
+            this.lastName = user.getLastName();
+        }
+    }
+}
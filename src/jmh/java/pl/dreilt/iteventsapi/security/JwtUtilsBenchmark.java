@@ -0,0 +1,41 @@
+package pl.dreilt.iteventsapi.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilsBenchmark {
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private String token;
+    private JwtUtils uncachedJwtUtils;
+    private JwtUtils cachedJwtUtils;
+
+    @Setup
+    public void setUp() {
+        uncachedJwtUtils = new JwtUtils(SECRET, 0);
+        cachedJwtUtils = new JwtUtils(SECRET, 10000);
+        token = cachedJwtUtils.generateToken("jankowalski@example.com");
+        cachedJwtUtils.verifyToken(token);
+    }
+
+    @Benchmark
+    public String verifierPerRequest() {
+        JWT.require(Algorithm.HMAC256(SECRET)).build().verify(token);
+        return JWT.decode(token).getSubject();
+    }
+
+    @Benchmark
+    public String reusedVerifier() {
+        return uncachedJwtUtils.verifyToken(token).getUsername();
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        return cachedJwtUtils.verifyToken(token).getUsername();
+    }
+}
@@ -37,8 +37,8 @@ public class AppUserController {
     }
 
     @GetMapping("/profile")
-    public AppUserProfileDTO getUserProfile() {
-        return appUserService.findUserProfile(currentUserFacade.getCurrentUser());
+    public AppUserProfileDTO getUserProfile(@RequestParam(name = "inline_images", required = false) boolean inlineImages) {
+        return appUserService.findUserProfile(currentUserFacade.getCurrentUser(), inlineImages);
     }
 
     @GetMapping("/users")
@@ -65,8 +65,9 @@ public class AppUserController {
     }
 
     @GetMapping("/users/{id}")
-    public AppUserProfileDTO getUserProfile(@PathVariable Long id) {
-        return appUserService.findUserProfileByUserId(id);
+    public AppUserProfileDTO getUserProfile(@PathVariable Long id,
+                                            @RequestParam(name = "inline_images", required = false) boolean inlineImages) {
+        return appUserService.findUserProfileByUserId(id, inlineImages);
     }
 
     @GetMapping("/settings/profile")
@@ -1,5 +1,6 @@
 package pl.dreilt.iteventsapi.appuser.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,6 +9,8 @@ import lombok.Setter;
 public class AppUserProfileDTO {
     private Long id;
     private String profileImageType;
+    private String profileImageUrl;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String profileImageData;
     private String firstName;
     private String lastName;
@@ -25,6 +28,7 @@ public class AppUserProfileDTO {
     public static class AppUserProfileDTOBuilder {
         private Long id;
         private String profileImageType;
+        private String profileImageUrl;
         private String profileImageData;
         private String firstName;
         private String lastName;
@@ -42,6 +46,11 @@ public class AppUserProfileDTO {
             return this;
         }
 
+        public AppUserProfileDTOBuilder profileImageUrl(String profileImageUrl) {
+            this.profileImageUrl = profileImageUrl;
+            return this;
+        }
+
         public AppUserProfileDTOBuilder profileImageData(String profileImageData) {
             this.profileImageData = profileImageData;
             return this;
@@ -76,6 +85,7 @@ public class AppUserProfileDTO {
             AppUserProfileDTO userProfile = new AppUserProfileDTO();
             userProfile.setId(id);
             userProfile.setProfileImageType(profileImageType);
+            userProfile.setProfileImageUrl(profileImageUrl);
             userProfile.setProfileImageData(profileImageData);
             userProfile.setFirstName(firstName);
             userProfile.setLastName(lastName);
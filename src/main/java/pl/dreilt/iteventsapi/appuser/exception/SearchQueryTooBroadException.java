@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.appuser.exception;
+
+public class SearchQueryTooBroadException extends RuntimeException {
+
+    public SearchQueryTooBroadException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 
@@ -11,6 +13,7 @@ import java.util.Optional;
 
 @Service
 public class CurrentUserFacadeImpl implements CurrentUserFacade {
+    private static final String CURRENT_USER_ATTRIBUTE = CurrentUserFacadeImpl.class.getName() + ".CURRENT_USER";
     private final AppUserRepository appUserRepository;
 
     public CurrentUserFacadeImpl(AppUserRepository appUserRepository) {
@@ -20,8 +23,18 @@ public class CurrentUserFacadeImpl implements CurrentUserFacade {
     @Override
     public AppUser getCurrentUser() {
         Authentication currentUser = SecurityContextHolder.getContext().getAuthentication();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AppUser user
+                && user.getEmail().equals(currentUser.getName())) {
+            return user;
+        }
+
         Optional<AppUser> userOptional = appUserRepository.findByEmail(currentUser.getName());
         if (userOptional.isPresent()) {
+            if (requestAttributes != null) {
+                requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, userOptional.get(), RequestAttributes.SCOPE_REQUEST);
+            }
             return userOptional.get();
         }
 
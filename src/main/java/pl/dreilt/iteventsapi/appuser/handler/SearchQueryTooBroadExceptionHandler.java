@@ -0,0 +1,28 @@
+package pl.dreilt.iteventsapi.appuser.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pl.dreilt.iteventsapi.appuser.exception.SearchQueryTooBroadException;
+import pl.dreilt.iteventsapi.core.AbstractExceptionHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestControllerAdvice
+public class SearchQueryTooBroadExceptionHandler extends AbstractExceptionHandler {
+    private static final String MESSAGE_CODE = "exception.SearchQueryTooBroadException.message";
+
+    public SearchQueryTooBroadExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+        super(messageSource, MESSAGE_CODE, objectMapper);
+    }
+
+    @ExceptionHandler(SearchQueryTooBroadException.class)
+    public void handle(HttpServletRequest request, HttpServletResponse response, Exception ex) throws IOException {
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        writeErrorAsJson(request, response, ex);
+    }
+}
@@ -11,11 +11,11 @@ public class AdminAppUserProfileEditDTOMapper {
     private AdminAppUserProfileEditDTOMapper() {
     }
 
-    public static AdminAppUserProfileEditDTO mapToAdminAppUserProfileEditDTO(AppUser user) {
+    public static AdminAppUserProfileEditDTO mapToAdminAppUserProfileEditDTO(AppUser user, byte[] profileImageData) {
         return AdminAppUserProfileEditDTO.builder()
                 .id(user.getId())
                 .profileImageType(user.getProfileImage().getFileType())
-                .profileImageData(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()))
+                .profileImageData(Base64.getEncoder().encodeToString(profileImageData))
                 .firstName(user.getFirstName())
                 .lastName(user.getLastName())
                 .dateOfBirth(user.getDateOfBirth().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
@@ -2,6 +2,7 @@ package pl.dreilt.iteventsapi.appuser.mapper;
 
 import pl.dreilt.iteventsapi.appuser.dto.AppUserProfileDTO;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.image.mapper.ImageUrlMapper;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
@@ -12,10 +13,15 @@ public class AppUserProfileDTOMapper {
     }
 
     public static AppUserProfileDTO mapToAppUserProfileDTO(AppUser user) {
+        return mapToAppUserProfileDTO(user, null);
+    }
+
+    public static AppUserProfileDTO mapToAppUserProfileDTO(AppUser user, byte[] profileImageData) {
         return AppUserProfileDTO.builder()
                 .id(user.getId())
                 .profileImageType(user.getProfileImage().getFileType())
-                .profileImageData(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()))
+                .profileImageUrl(ImageUrlMapper.mapToProfileImageUrl(user.getProfileImage()))
+                .profileImageData(profileImageData != null ? Base64.getEncoder().encodeToString(profileImageData) : null)
                 .firstName(user.getFirstName())
                 .lastName(user.getLastName())
                 .dateOfBirth(user.getDateOfBirth().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")))
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import pl.dreilt.iteventsapi.appuser.search.AppUserSearchIndexListener;
 import pl.dreilt.iteventsapi.core.BaseEntity;
 import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
 
@@ -12,15 +15,17 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@EntityListeners(AppUserSearchIndexListener.class)
 @Getter
 @Setter
 @Cacheable
 @Cache(region = "user", usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@NaturalIdCache(region = "userNaturalId")
 public class AppUser extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinTable(
             name = "app_user_profile_image",
             joinColumns = @JoinColumn(name = "app_user_id", referencedColumnName = "id"),
@@ -32,6 +37,7 @@ public class AppUser extends BaseEntity {
     private LocalDate dateOfBirth;
     private String city;
     private String bio;
+    @NaturalId
     private String email;
     private String password;
     private boolean enabled;
@@ -0,0 +1,10 @@
+package pl.dreilt.iteventsapi.appuser.repository;
+
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+
+import java.util.Optional;
+
+public interface AppUserNaturalIdRepository {
+
+    Optional<AppUser> findByEmail(String email);
+}
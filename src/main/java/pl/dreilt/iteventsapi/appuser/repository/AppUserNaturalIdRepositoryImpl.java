@@ -0,0 +1,20 @@
+package pl.dreilt.iteventsapi.appuser.repository;
+
+import org.hibernate.Session;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+public class AppUserNaturalIdRepositoryImpl implements AppUserNaturalIdRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<AppUser> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AppUser.class)
+                .loadOptional(email);
+    }
+}
@@ -1,14 +1,14 @@
 package pl.dreilt.iteventsapi.appuser.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 
-import java.util.Optional;
-
-public interface AppUserRepository extends JpaRepository<AppUser, Long>, JpaSpecificationExecutor<AppUser> {
-
-    Optional<AppUser> findByEmail(String username);
+public interface AppUserRepository extends JpaRepository<AppUser, Long>, JpaSpecificationExecutor<AppUser>, AppUserNaturalIdRepository {
 
     boolean existsByEmail(String email);
+
+    Slice<AppUser> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,160 @@
+package pl.dreilt.iteventsapi.appuser.search;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.appuser.exception.SearchQueryTooBroadException;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.specification.AppUserSpecification;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class AppUserSearchIndex {
+    private static final int GRAM_SIZE = 3;
+    static final int MAX_MATCHES = 1000;
+    private final Map<Long, IndexedUser> users = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    public Optional<Specification<AppUser>> searchSpecification(String searchQuery) {
+        List<String> searchWords = splitSearchWords(searchQuery);
+        if (searchWords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> userIds = findUserIds(searchWords);
+        if (userIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(AppUserSpecification.byIds(userIds));
+    }
+
+    public synchronized IndexedUser index(Long id, String firstName, String lastName, String email) {
+        IndexedUser indexedUser = new IndexedUser(normalize(firstName), normalize(lastName), normalize(email));
+        IndexedUser previous = users.put(id, indexedUser);
+        if (indexedUser.equals(previous)) {
+            return previous;
+        }
+        if (previous != null) {
+            previous.trigrams().forEach(trigram -> removePosting(trigram, id));
+        }
+        indexedUser.trigrams().forEach(trigram -> postings.computeIfAbsent(trigram, t -> ConcurrentHashMap.newKeySet()).add(id));
+        return previous;
+    }
+
+    public synchronized IndexedUser remove(Long id) {
+        IndexedUser previous = users.remove(id);
+        if (previous != null) {
+            previous.trigrams().forEach(trigram -> removePosting(trigram, id));
+        }
+        return previous;
+    }
+
+    public synchronized void restore(Long id, IndexedUser previous) {
+        if (previous == null) {
+            remove(id);
+        } else {
+            index(id, previous.firstName(), previous.lastName(), previous.email());
+        }
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    Set<Long> findUserIds(List<String> searchWords) {
+        Set<Long> userIds = null;
+        for (String searchWord : searchWords) {
+            Set<Long> candidates = findCandidates(searchWord, userIds);
+            userIds = new HashSet<>();
+            for (Long candidate : candidates) {
+                IndexedUser indexedUser = users.get(candidate);
+                if (indexedUser != null && indexedUser.contains(searchWord)) {
+                    userIds.add(candidate);
+                }
+            }
+            if (userIds.isEmpty()) {
+                return userIds;
+            }
+        }
+
+        if (userIds.size() > MAX_MATCHES) {
+            throw new SearchQueryTooBroadException("Search query matches more than " + MAX_MATCHES + " users");
+        }
+        return userIds;
+    }
+
+    private Set<Long> findCandidates(String searchWord, Set<Long> previousMatches) {
+        if (previousMatches != null) {
+            return previousMatches;
+        }
+        if (searchWord.length() < GRAM_SIZE) {
+            return users.keySet();
+        }
+
+        List<Set<Long>> trigramPostings = new ArrayList<>();
+        for (String trigram : trigrams(searchWord)) {
+            Set<Long> posting = postings.get(trigram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            trigramPostings.add(posting);
+        }
+        trigramPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(trigramPostings.get(0));
+        for (int i = 1; i < trigramPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(trigramPostings.get(i));
+        }
+        return candidates;
+    }
+
+    private void removePosting(String trigram, Long id) {
+        Set<Long> posting = postings.get(trigram);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(trigram, posting);
+            }
+        }
+    }
+
+    private static List<String> splitSearchWords(String searchQuery) {
+        if (searchQuery == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(normalize(searchQuery).split("\\s+"))
+                .filter(searchWord -> !searchWord.isEmpty())
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT).trim() : "";
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+            trigrams.add(value.substring(i, i + GRAM_SIZE));
+        }
+        return trigrams;
+    }
+
+    public record IndexedUser(String firstName, String lastName, String email) {
+
+        boolean contains(String searchWord) {
+            return firstName.contains(searchWord) || lastName.contains(searchWord) || email.contains(searchWord);
+        }
+
+        Set<String> trigrams() {
+            Set<String> trigrams = AppUserSearchIndex.trigrams(firstName);
+            trigrams.addAll(AppUserSearchIndex.trigrams(lastName));
+            trigrams.addAll(AppUserSearchIndex.trigrams(email));
+            return trigrams;
+        }
+    }
+}
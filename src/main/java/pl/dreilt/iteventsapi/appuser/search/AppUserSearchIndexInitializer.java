@@ -0,0 +1,37 @@
+package pl.dreilt.iteventsapi.appuser.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+
+@Component
+public class AppUserSearchIndexInitializer implements SmartInitializingSingleton {
+    private static final int BATCH_SIZE = 500;
+    private final Logger logger = LoggerFactory.getLogger(AppUserSearchIndexInitializer.class);
+    private final AppUserRepository appUserRepository;
+    private final AppUserSearchIndex appUserSearchIndex;
+
+    public AppUserSearchIndexInitializer(AppUserRepository appUserRepository, AppUserSearchIndex appUserSearchIndex) {
+        this.appUserRepository = appUserRepository;
+        this.appUserSearchIndex = appUserSearchIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+        Slice<AppUser> users;
+        do {
+            users = appUserRepository.findAllBy(pageable);
+            users.forEach(user -> appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail()));
+            pageable = users.nextPageable();
+        } while (users.hasNext());
+        logger.info("User search index built for " + appUserSearchIndex.size() + " users");
+    }
+}
@@ -0,0 +1,45 @@
+package pl.dreilt.iteventsapi.appuser.search;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+@Component
+public class AppUserSearchIndexListener {
+    private final AppUserSearchIndex appUserSearchIndex;
+
+    public AppUserSearchIndexListener(AppUserSearchIndex appUserSearchIndex) {
+        this.appUserSearchIndex = appUserSearchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void indexUser(AppUser user) {
+        AppUserSearchIndex.IndexedUser previous = appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail());
+        restoreOnRollback(user.getId(), previous);
+    }
+
+    @PostRemove
+    public void removeUser(AppUser user) {
+        AppUserSearchIndex.IndexedUser previous = appUserSearchIndex.remove(user.getId());
+        restoreOnRollback(user.getId(), previous);
+    }
+
+    private void restoreOnRollback(Long id, AppUserSearchIndex.IndexedUser previous) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        appUserSearchIndex.restore(id, previous);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -4,13 +4,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import pl.dreilt.iteventsapi.appuser.dto.*;
 import pl.dreilt.iteventsapi.appuser.exception.AppUserNotFoundException;
 import pl.dreilt.iteventsapi.appuser.exception.IncorrectCurrentPasswordException;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
-import pl.dreilt.iteventsapi.appuser.specification.AppUserSpecification;
+import pl.dreilt.iteventsapi.appuser.search.AppUserSearchIndex;
 import pl.dreilt.iteventsapi.appuser.mapper.AdminAppUserAccountEditDTOMapper;
 import pl.dreilt.iteventsapi.appuser.mapper.AdminAppUserProfileEditDTOMapper;
 import pl.dreilt.iteventsapi.appuser.mapper.AdminAppUserTableDTOMapper;
@@ -29,15 +30,21 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
     private final AppUserRepository appUserRepository;
     private final ProfileImageService profileImageService;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final AppUserSearchIndex appUserSearchIndex;
 
     public AdminAppUserServiceImpl(
             AppUserRepository appUserRepository,
             ProfileImageService profileImageService,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            UserCache userCache,
+            AppUserSearchIndex appUserSearchIndex
     ) {
         this.appUserRepository = appUserRepository;
         this.profileImageService = profileImageService;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.appUserSearchIndex = appUserSearchIndex;
     }
 
     public Page<AdminAppUserTableDTO> findAllUsers(Pageable page) {
@@ -45,19 +52,9 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
     }
 
     public Page<AdminAppUserTableDTO> findUsersBySearch(String searchQuery, Pageable page) {
-        searchQuery = searchQuery.toLowerCase();
-        String[] searchWords = searchQuery.split(" ");
-
-        if (searchWords.length == 1 && !"".equals(searchWords[0])) {
-            return AdminAppUserTableDTOMapper
-                    .mapToAdminAppUserTableDTOs(appUserRepository.findAll(AppUserSpecification.bySearch(searchWords[0]), page));
-        }
-        if (searchWords.length == 2) {
-            return AdminAppUserTableDTOMapper
-                    .mapToAdminAppUserTableDTOs(appUserRepository.findAll(AppUserSpecification.bySearch(searchWords[0], searchWords[1]), page));
-        }
-
-        return Page.empty();
+        return appUserSearchIndex.searchSpecification(searchQuery)
+                .map(specification -> AdminAppUserTableDTOMapper.mapToAdminAppUserTableDTOs(appUserRepository.findAll(specification, page)))
+                .orElse(Page.empty());
     }
 
     public AdminAppUserAccountEditDTO findUserAccountToEdit(Long id) {
@@ -72,6 +69,7 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
         if (userOpt.isPresent()) {
             AppUser user = userOpt.get();
             if (setUserAccountFields(userAccount, user)) {
+                userCache.removeUserFromCache(user.getEmail());
                 logger.info("User [ID: " + user.getId() + "] account updated by user [ID: " + currentUser.getId() + "]");
             }
 
@@ -83,7 +81,7 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
 
     public AdminAppUserProfileEditDTO findUserProfileToEdit(Long id) {
         return appUserRepository.findById(id)
-                .map(AdminAppUserProfileEditDTOMapper::mapToAdminAppUserProfileEditDTO)
+                .map(user -> AdminAppUserProfileEditDTOMapper.mapToAdminAppUserProfileEditDTO(user, profileImageService.readProfileImage(user.getProfileImage())))
                 .orElseThrow(() -> new AppUserNotFoundException("User with ID " + id + " not found"));
     }
 
@@ -93,10 +91,11 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
         if (userOpt.isPresent()) {
             AppUser user = userOpt.get();
             if (setUserProfileFields(userProfile, user)) {
+                userCache.removeUserFromCache(user.getEmail());
                 logger.info("User [ID: " + user.getId() + "] profile updated by user [ID: " + currentUser.getId() + "]");
             }
 
-            return AdminAppUserProfileEditDTOMapper.mapToAdminAppUserProfileEditDTO(user);
+            return AdminAppUserProfileEditDTOMapper.mapToAdminAppUserProfileEditDTO(user, profileImageService.readProfileImage(user.getProfileImage()));
         }
 
         throw new AppUserNotFoundException("User with ID " + id + " not found");
@@ -114,6 +113,7 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
         }
         AppUser user = userOpt.get();
         user.setPassword(passwordEncoder.encode(newUserPassword.getNewPassword()));
+        userCache.removeUserFromCache(user.getEmail());
         logger.info("User [ID: " + user.getId() + "] password updated by user [ID: " + currentUser.getId() + "]");
     }
 
@@ -123,7 +123,9 @@ public class AdminAppUserServiceImpl implements AdminAppUserService {
         }
 
         if (!currentUser.getId().equals(deleteUserData.getId())) {
+            Optional<AppUser> userOpt = appUserRepository.findById(deleteUserData.getId());
             appUserRepository.deleteById(deleteUserData.getId());
+            userOpt.ifPresent(user -> userCache.removeUserFromCache(user.getEmail()));
             logger.info("User [ID: " + deleteUserData.getId() + "] deleted by user [ID: " + currentUser.getId() + "]");
         }
     }
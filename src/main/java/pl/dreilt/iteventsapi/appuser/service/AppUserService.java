@@ -11,13 +11,13 @@ public interface AppUserService {
 
     AppUserProfileDTO createUser(AppUserRegistrationDTO newUserData);
 
-    AppUserProfileDTO findUserProfile(AppUser currentUser);
+    AppUserProfileDTO findUserProfile(AppUser currentUser, boolean inlineImages);
 
     Page<AppUserTableDTO> findAllUsers(Pageable page);
 
     Page<AppUserTableDTO> findUsersBySearch(String searchQuery, Pageable page);
 
-    AppUserProfileDTO findUserProfileByUserId(Long id);
+    AppUserProfileDTO findUserProfileByUserId(Long id, boolean inlineImages);
 
     AppUserProfileEditDTO findUserProfileToEdit(AppUser currentUser);
 
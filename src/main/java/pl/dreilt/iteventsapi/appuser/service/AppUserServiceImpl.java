@@ -4,13 +4,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dreilt.iteventsapi.appuser.dto.*;
 import pl.dreilt.iteventsapi.appuser.exception.AppUserNotFoundException;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
-import pl.dreilt.iteventsapi.appuser.specification.AppUserSpecification;
+import pl.dreilt.iteventsapi.appuser.search.AppUserSearchIndex;
 import pl.dreilt.iteventsapi.security.AppUserDetailsService;
 import pl.dreilt.iteventsapi.appuser.exception.IncorrectCurrentPasswordException;
 import pl.dreilt.iteventsapi.appuser.mapper.AppUserProfileDTOMapper;
@@ -33,17 +34,23 @@ public class AppUserServiceImpl implements AppUserService {
     private final PasswordEncoder passwordEncoder;
     private final ProfileImageService profileImageService;
     private final AppUserDetailsService appUserDetailsService;
+    private final UserCache userCache;
+    private final AppUserSearchIndex appUserSearchIndex;
 
     public AppUserServiceImpl(
             AppUserRepository appUserRepository,
             PasswordEncoder passwordEncoder,
             ProfileImageService profileImageService,
-            AppUserDetailsService appUserDetailsService
+            AppUserDetailsService appUserDetailsService,
+            UserCache userCache,
+            AppUserSearchIndex appUserSearchIndex
     ) {
         this.appUserRepository = appUserRepository;
         this.passwordEncoder = passwordEncoder;
         this.profileImageService = profileImageService;
         this.appUserDetailsService = appUserDetailsService;
+        this.userCache = userCache;
+        this.appUserSearchIndex = appUserSearchIndex;
     }
 
     public boolean checkIfUserExists(String email) {
@@ -53,7 +60,7 @@ public class AppUserServiceImpl implements AppUserService {
     @Transactional
     public AppUserProfileDTO createUser(AppUserRegistrationDTO newUserData) {
         AppUser user = new AppUser();
-        user.setProfileImage(profileImageService.createDefaultProfileImage());
+        user.setProfileImage(profileImageService.getDefaultProfileImage());
         user.setFirstName(newUserData.getFirstName());
         user.setLastName(newUserData.getLastName());
         user.setDateOfBirth(LocalDate.parse(newUserData.getDateOfBirth(), DateTimeFormatter.ISO_LOCAL_DATE));
@@ -67,7 +74,11 @@ public class AppUserServiceImpl implements AppUserService {
         return AppUserProfileDTOMapper.mapToAppUserProfileDTO(createdUser);
     }
 
-    public AppUserProfileDTO findUserProfile(AppUser currentUser) {
+    public AppUserProfileDTO findUserProfile(AppUser currentUser, boolean inlineImages) {
+        if (inlineImages) {
+            return AppUserProfileDTOMapper.mapToAppUserProfileDTO(currentUser, profileImageService.readProfileImage(currentUser.getProfileImage()));
+        }
+
         return AppUserProfileDTOMapper.mapToAppUserProfileDTO(currentUser);
     }
 
@@ -76,24 +87,16 @@ public class AppUserServiceImpl implements AppUserService {
     }
 
     public Page<AppUserTableDTO> findUsersBySearch(String searchQuery, Pageable page) {
-        searchQuery = searchQuery.toLowerCase();
-        String[] searchWords = searchQuery.split(" ");
-
-        if (searchWords.length == 1 && !"".equals(searchWords[0])) {
-            return AppUserTableDTOMapper
-                    .mapToAppUserTableDTOs(appUserRepository.findAll(AppUserSpecification.bySearch(searchWords[0]), page));
-        }
-        if (searchWords.length == 2) {
-            return AppUserTableDTOMapper
-                    .mapToAppUserTableDTOs(appUserRepository.findAll(AppUserSpecification.bySearch(searchWords[0], searchWords[1]), page));
-        }
-
-        return Page.empty();
+        return appUserSearchIndex.searchSpecification(searchQuery)
+                .map(specification -> AppUserTableDTOMapper.mapToAppUserTableDTOs(appUserRepository.findAll(specification, page)))
+                .orElse(Page.empty());
     }
 
-    public AppUserProfileDTO findUserProfileByUserId(Long id) {
+    public AppUserProfileDTO findUserProfileByUserId(Long id, boolean inlineImages) {
         return appUserRepository.findById(id)
-                .map(AppUserProfileDTOMapper::mapToAppUserProfileDTO)
+                .map(user -> inlineImages
+                        ? AppUserProfileDTOMapper.mapToAppUserProfileDTO(user, profileImageService.readProfileImage(user.getProfileImage()))
+                        : AppUserProfileDTOMapper.mapToAppUserProfileDTO(user))
                 .orElseThrow(() -> new AppUserNotFoundException("User with ID " + id + " not found"));
     }
 
@@ -117,6 +120,7 @@ public class AppUserServiceImpl implements AppUserService {
         }
 
         currentUser.setPassword(passwordEncoder.encode(newUserPasswordData.getNewPassword()));
+        userCache.removeUserFromCache(currentUser.getEmail());
         logger.info("User [ID: " + currentUser.getId() + "] updated his password");
     }
 
@@ -128,6 +132,7 @@ public class AppUserServiceImpl implements AppUserService {
             if (profileImage.isPresent()) {
                 target.setProfileImage(profileImage.get());
                 appUserDetailsService.updateAppUserDetails(target);
+                userCache.removeUserFromCache(target.getEmail());
                 isUpdated = true;
             }
         }
@@ -0,0 +1,31 @@
+package pl.dreilt.iteventsapi.core;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class ContentHash {
+
+    private ContentHash() {
+    }
+
+    public static String sha256(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        return toHex(newSha256Digest().digest(data));
+    }
+
+    public static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -0,0 +1,23 @@
+package pl.dreilt.iteventsapi.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${application.images.processing.threads}") int threads,
+            @Value("${application.images.processing.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -3,16 +3,28 @@ package pl.dreilt.iteventsapi.core;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public class ImageValidator implements ConstraintValidator<Image, MultipartFile> {
+    private static final long MAX_FILE_SIZE = 2097152;
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final Map<String, String> FORMATS_BY_FILE_TYPE = Map.of(
+            "image/jpeg", "jpeg",
+            "image/jpg", "jpeg",
+            "image/png", "png"
+    );
     private int width;
     private int height;
 
@@ -24,47 +36,76 @@ public class ImageValidator implements ConstraintValidator<Image, MultipartFile>
 
     @Override
     public boolean isValid(MultipartFile image, ConstraintValidatorContext context) {
-        List<String> errorMessages = new ArrayList<>();
-        String message;
+        if (image == null || image.isEmpty()) {
+            return true;
+        }
 
-        if (image != null && !image.isEmpty()) {
-            String[] allowedFileTypes = new String[] { "image/jpeg", "image/jpg", "image/png" };
-            String fileType = image.getContentType();
-            boolean isFileTypeValid = Arrays.stream(allowedFileTypes).anyMatch(fileType::equals);
+        List<String> errorMessages = new ArrayList<>();
+        if (image.getSize() > MAX_FILE_SIZE) {
+            errorMessages.add("{validation.annotation.Image.invalidFileSize.message}");
+        } else {
+            validateImage(image, errorMessages);
+        }
 
-            if (!isFileTypeValid) {
-                message = "{form.field.image.error.invalidFileType.message}";
-                errorMessages.add(message);
+        if (errorMessages.size() > 0) {
+            context.disableDefaultConstraintViolation();
+            for (String errorMessage : errorMessages) {
+                context.buildConstraintViolationWithTemplate(errorMessage).addConstraintViolation();
             }
 
-            if (isFileTypeValid) {
-                try {
-                    ImageInputStream imageInputStream = ImageIO.createImageInputStream(image.getInputStream());
-                    BufferedImage bufferedImage = ImageIO.read(imageInputStream);
-                    if (bufferedImage.getWidth() > width || bufferedImage.getHeight() > height) {
-                        message = "{form.field.image.error.invalidImageSize.message}";
-                        errorMessages.add(message);
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
+            return false;
+        }
+
+        return true;
+    }
+
+    private void validateImage(MultipartFile image, List<String> errorMessages) {
+        try (InputStream inputStream = new BufferedInputStream(image.getInputStream())) {
+            String format = sniffFormat(inputStream);
+            if (format == null || !format.equals(FORMATS_BY_FILE_TYPE.get(image.getContentType()))) {
+                errorMessages.add("{validation.annotation.Image.invalidFileType.message}");
+                return;
             }
 
-            if (image.getSize() > 2097152) {
-                message = "{form.field.image.error.invalidFileSize.message}";
-                errorMessages.add(message);
+            if (!hasAllowedDimensions(inputStream, format)) {
+                errorMessages.add("{validation.annotation.Image.invalidImageSize.message}");
             }
+        } catch (IOException e) {
+            errorMessages.add("{validation.annotation.Image.invalidFileType.message}");
+        }
+    }
 
-            if (errorMessages.size() > 0) {
-                context.disableDefaultConstraintViolation();
-                for (String errorMessage : errorMessages) {
-                    context.buildConstraintViolationWithTemplate(errorMessage).addConstraintViolation();
-                }
+    private String sniffFormat(InputStream inputStream) throws IOException {
+        inputStream.mark(PNG_SIGNATURE.length);
+        byte[] header = inputStream.readNBytes(PNG_SIGNATURE.length);
+        inputStream.reset();
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return "png";
+        }
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            return "jpeg";
+        }
 
-                return false;
-            }
+        return null;
+    }
+
+    private boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length
+                && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private boolean hasAllowedDimensions(InputStream inputStream, String format) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName(format);
+        if (!readers.hasNext()) {
+            throw new IOException("No image reader for format " + format);
         }
 
-        return true;
+        ImageReader reader = readers.next();
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            reader.setInput(imageInputStream, true, true);
+            return reader.getWidth(0) <= width && reader.getHeight(0) <= height;
+        } finally {
+            reader.dispose();
+        }
     }
 }
@@ -2,15 +2,26 @@ package pl.dreilt.iteventsapi.event.controller;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import pl.dreilt.iteventsapi.appuser.facade.CurrentUserFacade;
-import pl.dreilt.iteventsapi.event.dto.CityDTO;
+import pl.dreilt.iteventsapi.core.CursorPage;
 import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCursor;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
-import pl.dreilt.iteventsapi.event.exception.CityNotFoundException;
+import pl.dreilt.iteventsapi.event.dto.EventFilterDTO;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.dto.FilteredEventsDTO;
+import pl.dreilt.iteventsapi.event.dto.HomeFeedDTO;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
 import pl.dreilt.iteventsapi.event.service.EventService;
+import pl.dreilt.iteventsapi.event.service.HomeFeedService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,21 +30,36 @@ import java.util.List;
 @RequestMapping("/api/v1")
 public class EventController {
     private final EventService eventService;
+    private final CityCatalogService cityCatalogService;
+    private final HomeFeedService homeFeedService;
     private final CurrentUserFacade currentUserFacade;
 
-    public EventController(EventService eventService, CurrentUserFacade currentUserFacade) {
+    public EventController(EventService eventService,
+                           CityCatalogService cityCatalogService,
+                           HomeFeedService homeFeedService,
+                           CurrentUserFacade currentUserFacade) {
         this.eventService = eventService;
+        this.cityCatalogService = cityCatalogService;
+        this.homeFeedService = homeFeedService;
         this.currentUserFacade = currentUserFacade;
     }
 
     @GetMapping("/home")
-    public List<EventCardDTO> showMainPage() {
-        return eventService.findFirst10UpcomingEvents();
+    public ResponseEntity<List<EventCardDTO>> showMainPage(WebRequest request) {
+        HomeFeedDTO homeFeed = homeFeedService.getHomeFeed(LocalDateTime.now());
+        if (request.checkNotModified(homeFeed.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(homeFeed.getETag())
+                .body(homeFeed.getEvents());
     }
 
     @GetMapping("/events/{id}")
-    public EventDTO getEvent(@PathVariable Long id) {
-        return eventService.findEvent(id, currentUserFacade.getCurrentUser());
+    public EventDTO getEvent(@PathVariable Long id,
+                             @RequestParam(name = "inline_images", required = false) boolean inlineImages) {
+        return eventService.findEvent(id, currentUserFacade.getCurrentUser(), inlineImages);
     }
 
     @GetMapping("/events")
@@ -43,16 +69,68 @@ public class EventController {
         return eventService.findAllUpcomingEvents(LocalDateTime.now(), pageRequest);
     }
 
+    @GetMapping(value = "/events", params = {"with_total=false", "!cursor"})
+    public Slice<EventCardDTO> getAllUpcomingEventsSlice(@RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+        return eventService.findAllUpcomingEventsSlice(LocalDateTime.now(), pageRequest);
+    }
+
+    @GetMapping(value = "/events", params = "cursor")
+    public CursorPage<EventCardDTO> getAllUpcomingEvents(@RequestParam(name = "cursor") String cursor) {
+        return eventService.findAllUpcomingEvents(LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
+    @GetMapping("/events/search")
+    public Page<EventCardDTO> searchEvents(@RequestParam(name = "q") String searchQuery,
+                                           @RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        return eventService.searchEvents(searchQuery, PageRequest.of(page - 1, 10));
+    }
+
+    @GetMapping("/events/suggest")
+    public List<EventSuggestionDTO> suggestEvents(@RequestParam(name = "prefix") String prefix) {
+        return eventService.suggestEvents(prefix, LocalDateTime.now());
+    }
+
+    @GetMapping("/events/filter")
+    public FilteredEventsDTO filterUpcomingEvents(@RequestParam(name = "type", required = false) List<EventType> eventTypes,
+                                                  @RequestParam(name = "admission", required = false) List<AdmissionType> admissions,
+                                                  @RequestParam(name = "language", required = false) List<String> languages,
+                                                  @RequestParam(name = "city", required = false) List<String> cities,
+                                                  @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                  @RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        EventFilterDTO filter = new EventFilterDTO(eventTypes, admissions, languages, cities, from, to);
+        return eventService.filterUpcomingEvents(filter, LocalDateTime.now(), PageRequest.of(page - 1, 10));
+    }
+
     @GetMapping("/events/cities/{city}")
     public Page<EventCardDTO> getUpcomingEventsByCity(@PathVariable String city,
                                                       @RequestParam(name = "page", required = false) Integer pageNumber) {
-        List<CityDTO> cities = eventService.findAllCities();
-        city = getCity(cities, city);
+        city = cityCatalogService.getCityDisplayName(city);
         int page = pageNumber != null ? pageNumber : 1;
         PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
         return eventService.findUpcomingEventsByCity(city, LocalDateTime.now(), pageRequest);
     }
 
+    @GetMapping(value = "/events/cities/{city}", params = {"with_total=false", "!cursor"})
+    public Slice<EventCardDTO> getUpcomingEventsByCitySlice(@PathVariable String city,
+                                                            @RequestParam(name = "page", required = false) Integer pageNumber) {
+        city = cityCatalogService.getCityDisplayName(city);
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+        return eventService.findUpcomingEventsByCitySlice(city, LocalDateTime.now(), pageRequest);
+    }
+
+    @GetMapping(value = "/events/cities/{city}", params = "cursor")
+    public CursorPage<EventCardDTO> getUpcomingEventsByCity(@PathVariable String city,
+                                                            @RequestParam(name = "cursor") String cursor) {
+        city = cityCatalogService.getCityDisplayName(city);
+        return eventService.findUpcomingEventsByCity(city, LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
     @GetMapping("/archive/events")
     public Page<EventCardDTO> getAllPastEvents(@RequestParam(name = "page", required = false) Integer pageNumber) {
         int page = pageNumber != null ? pageNumber : 1;
@@ -60,16 +138,43 @@ public class EventController {
         return eventService.findAllPastEvents(LocalDateTime.now(), pageRequest);
     }
 
+    @GetMapping(value = "/archive/events", params = {"with_total=false", "!cursor"})
+    public Slice<EventCardDTO> getAllPastEventsSlice(@RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        return eventService.findAllPastEventsSlice(LocalDateTime.now(), pageRequest);
+    }
+
+    @GetMapping(value = "/archive/events", params = "cursor")
+    public CursorPage<EventCardDTO> getAllPastEvents(@RequestParam(name = "cursor") String cursor) {
+        return eventService.findAllPastEvents(LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
     @GetMapping("/archive/events/cities/{city}")
     public Page<EventCardDTO> getPastEventsByCity(@PathVariable String city,
                                                   @RequestParam(name = "page", required = false) Integer pageNumber) {
-        List<CityDTO> cities = eventService.findAllCities();
-        city = getCity(cities, city);
+        city = cityCatalogService.getCityDisplayName(city);
         int page = pageNumber != null ? pageNumber : 1;
         PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
         return eventService.findPastEventsByCity(city, LocalDateTime.now(), pageRequest);
     }
 
+    @GetMapping(value = "/archive/events/cities/{city}", params = {"with_total=false", "!cursor"})
+    public Slice<EventCardDTO> getPastEventsByCitySlice(@PathVariable String city,
+                                                        @RequestParam(name = "page", required = false) Integer pageNumber) {
+        city = cityCatalogService.getCityDisplayName(city);
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        return eventService.findPastEventsByCitySlice(city, LocalDateTime.now(), pageRequest);
+    }
+
+    @GetMapping(value = "/archive/events/cities/{city}", params = "cursor")
+    public CursorPage<EventCardDTO> getPastEventsByCity(@PathVariable String city,
+                                                        @RequestParam(name = "cursor") String cursor) {
+        city = cityCatalogService.getCityDisplayName(city);
+        return eventService.findPastEventsByCity(city, LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
     @PostMapping("/events/{id}/join")
     public ResponseEntity<EventDTO> joinEvent(@PathVariable Long id) {
         EventDTO event = eventService.addUserToEventParticipantsList(currentUserFacade.getCurrentUser(), id);
@@ -85,27 +190,42 @@ public class EventController {
     @GetMapping("/events/my_events")
     public Page<EventCardDTO> getUserEvents(@RequestParam(name = "page", required = false) Integer pageNumber) {
         int page = pageNumber != null ? pageNumber : 1;
-        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
         return eventService.findUserEvents(currentUserFacade.getCurrentUser(), pageRequest);
     }
 
+    @GetMapping(value = "/events/my_events", params = {"with_total=false", "!cursor"})
+    public Slice<EventCardDTO> getUserEventsSlice(@RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+        return eventService.findUserEventsSlice(currentUserFacade.getCurrentUser(), pageRequest);
+    }
+
+    @GetMapping(value = "/events/my_events", params = "cursor")
+    public CursorPage<EventCardDTO> getUserUpcomingEvents(@RequestParam(name = "cursor") String cursor) {
+        return eventService.findUserUpcomingEvents(currentUserFacade.getCurrentUser(), LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
+    @GetMapping(value = "/archive/events/my_events", params = "cursor")
+    public CursorPage<EventCardDTO> getUserPastEvents(@RequestParam(name = "cursor") String cursor) {
+        return eventService.findUserPastEvents(currentUserFacade.getCurrentUser(), LocalDateTime.now(), EventCursor.decode(cursor), 10);
+    }
+
     @GetMapping("/events/my_events/cities/{city}")
     public Page<EventCardDTO> getUserEventsByCity(@PathVariable String city,
                                                   @RequestParam(name = "page", required = false) Integer pageNumber) {
-        List<CityDTO> cities = eventService.findAllCities();
-        city = getCity(cities, city);
+        city = cityCatalogService.getCityDisplayName(city);
         int page = pageNumber != null ? pageNumber : 1;
-        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
         return eventService.findUserEventsByCity(currentUserFacade.getCurrentUser(), city, pageRequest);
     }
 
-    private String getCity(List<CityDTO> cities, String city) {
-        for (CityDTO cityDTO : cities) {
-            if (cityDTO.getNameWithoutPlCharacters().equals(city)) {
-                return cityDTO.getDisplayName();
-            }
-        }
-
-        throw new CityNotFoundException("City with name " + city + " not found");
+    @GetMapping(value = "/events/my_events/cities/{city}", params = "with_total=false")
+    public Slice<EventCardDTO> getUserEventsByCitySlice(@PathVariable String city,
+                                                        @RequestParam(name = "page", required = false) Integer pageNumber) {
+        city = cityCatalogService.getCityDisplayName(city);
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+        return eventService.findUserEventsByCitySlice(currentUserFacade.getCurrentUser(), city, pageRequest);
     }
 }
@@ -2,27 +2,31 @@ package pl.dreilt.iteventsapi.event.controller;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import pl.dreilt.iteventsapi.appuser.facade.CurrentUserFacade;
 import pl.dreilt.iteventsapi.event.dto.*;
-import pl.dreilt.iteventsapi.event.exception.CityNotFoundException;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
 import pl.dreilt.iteventsapi.event.service.OrganizerEventService;
 
 import javax.validation.Valid;
 import java.net.URI;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
 public class OrganizerEventController {
     private final OrganizerEventService organizerEventService;
+    private final CityCatalogService cityCatalogService;
     private final CurrentUserFacade currentUserFacade;
 
-    public OrganizerEventController(OrganizerEventService organizerEventService, CurrentUserFacade currentUserFacade) {
+    public OrganizerEventController(OrganizerEventService organizerEventService,
+                                    CityCatalogService cityCatalogService,
+                                    CurrentUserFacade currentUserFacade) {
         this.organizerEventService = organizerEventService;
+        this.cityCatalogService = cityCatalogService;
         this.currentUserFacade = currentUserFacade;
     }
 
@@ -44,16 +48,31 @@ public class OrganizerEventController {
         return organizerEventService.findOrganizerEvents(currentUserFacade.getCurrentUser(), pageRequest);
     }
 
+    @GetMapping(value = "/organizer/events", params = "with_total=false")
+    public Slice<EventCardDTO> findOrganizerEventsSlice(@RequestParam(name = "page", required = false) Integer pageNumber) {
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        return organizerEventService.findOrganizerEventsSlice(currentUserFacade.getCurrentUser(), pageRequest);
+    }
+
     @GetMapping("/organizer/events/cities/{city}")
     public Page<EventCardDTO> findOrganizerEventsByCity(@PathVariable String city,
                                                         @RequestParam(name = "page", required = false) Integer pageNumber) {
-        List<CityDTO> cities = organizerEventService.findAllCities();
-        city = getCity(cities, city);
+        city = cityCatalogService.getCityDisplayName(city);
         int page = pageNumber != null ? pageNumber : 1;
         PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
         return organizerEventService.findOrganizerEventsByCity(currentUserFacade.getCurrentUser(), city, pageRequest);
     }
 
+    @GetMapping(value = "/organizer/events/cities/{city}", params = "with_total=false")
+    public Slice<EventCardDTO> findOrganizerEventsByCitySlice(@PathVariable String city,
+                                                              @RequestParam(name = "page", required = false) Integer pageNumber) {
+        city = cityCatalogService.getCityDisplayName(city);
+        int page = pageNumber != null ? pageNumber : 1;
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+        return organizerEventService.findOrganizerEventsByCitySlice(currentUserFacade.getCurrentUser(), city, pageRequest);
+    }
+
     @GetMapping("/organizer/events/{id}/edit")
     public EventEditDTO showEditEventForm(@PathVariable Long id) {
         return organizerEventService.findEventToEdit(currentUserFacade.getCurrentUser(), id);
@@ -67,7 +86,7 @@ public class OrganizerEventController {
     @GetMapping("/organizer/events/{id}/participants")
     public Page<ParticipantDTO> getEventParticipants(@PathVariable Long id, @RequestParam(name = "page", required = false) Integer pageNumber) {
         int page = pageNumber != null ? pageNumber : 1;
-        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "lastName"));
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "lastName", "id"));
         return organizerEventService.findEventParticipants(currentUserFacade.getCurrentUser(), id, pageRequest);
     }
 
@@ -75,17 +94,7 @@ public class OrganizerEventController {
     public Page<ParticipantDTO> removeParticipantFromEvent(@PathVariable Long eventId, @PathVariable Long participantId,
                                                            @RequestParam(name = "page", required = false) Integer pageNumber) {
         int page = pageNumber != null ? pageNumber : 1;
-        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "lastName"));
+        PageRequest pageRequest = PageRequest.of(page - 1, 10, Sort.by(Sort.Direction.ASC, "lastName", "id"));
         return organizerEventService.removeParticipant(currentUserFacade.getCurrentUser(), eventId, participantId, pageRequest);
     }
-
-    private String getCity(List<CityDTO> cities, String city) {
-        for (CityDTO cityDTO : cities) {
-            if (cityDTO.getNameWithoutPlCharacters().equals(city)) {
-                return cityDTO.getDisplayName();
-            }
-        }
-
-        throw new CityNotFoundException("City with name " + city + " not found");
-    }
 }
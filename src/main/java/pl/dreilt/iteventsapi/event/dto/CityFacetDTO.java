@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CityFacetDTO {
+    private String nameWithoutPlCharacters;
+    private String displayName;
+    private long events;
+}
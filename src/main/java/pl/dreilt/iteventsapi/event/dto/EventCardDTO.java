@@ -1,12 +1,25 @@
 package pl.dreilt.iteventsapi.event.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Locale;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class EventCardDTO {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM");
     private Long id;
+    @JsonIgnore
+    private LocalDateTime dateTime;
     private String date;
     private String dayOfWeek;
     private String name;
@@ -14,6 +27,17 @@ public class EventCardDTO {
     private String eventType;
     private String admission;
 
+    public EventCardDTO(Long id, LocalDateTime dateTime, String name, String city, EventType eventType, AdmissionType admission) {
+        this.id = id;
+        this.dateTime = dateTime;
+        this.date = dateTime.format(DATE_FORMATTER);
+        this.dayOfWeek = dateTime.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault());
+        this.name = name;
+        this.city = city;
+        this.eventType = eventType.getDisplayName();
+        this.admission = admission.getDisplayName();
+    }
+
     public static EventCardDTOBuilder builder() {
         return new EventCardDTOBuilder();
     }
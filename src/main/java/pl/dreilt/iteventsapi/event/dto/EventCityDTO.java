@@ -0,0 +1,11 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventCityDTO {
+    private String city;
+    private long events;
+}
@@ -0,0 +1,53 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import pl.dreilt.iteventsapi.event.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public class EventCursor {
+    private static final String SEPARATOR = "_";
+    private final LocalDateTime dateTime;
+    private final Long id;
+
+    public EventCursor(LocalDateTime dateTime, Long id) {
+        this.dateTime = dateTime;
+        this.id = id;
+    }
+
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String value = dateTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = value.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new InvalidCursorException("Cursor " + cursor + " is invalid");
+            }
+
+            return new EventCursor(
+                    LocalDateTime.parse(value.substring(0, separatorIndex)),
+                    Long.parseLong(value.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor " + cursor + " is invalid");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package pl.dreilt.iteventsapi.event.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,6 +10,8 @@ public class EventDTO {
     private Long id;
     private String name;
     private String imageType;
+    private String imageUrl;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String imageData;
     private String eventType;
     private String date;
@@ -20,6 +23,8 @@ public class EventDTO {
     private String address;
     private Long organizerId;
     private String organizerImageType;
+    private String organizerImageUrl;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String organizerImageData;
     private String organizerName;
     private String description;
@@ -29,6 +34,7 @@ public class EventDTO {
         private Long id;
         private String name;
         private String imageType;
+        private String imageUrl;
         private String imageData;
         private String eventType;
         private String date;
@@ -40,6 +46,7 @@ public class EventDTO {
         private String address;
         private Long organizerId;
         private String organizerImageType;
+        private String organizerImageUrl;
         private String organizerImageData;
         private String organizerName;
         private String description;
@@ -60,6 +67,11 @@ public class EventDTO {
             return this;
         }
 
+        public EventDTOBuilder imageUrl(String imageUrl) {
+            this.imageUrl = imageUrl;
+            return this;
+        }
+
         public EventDTOBuilder imageData(String imageData) {
             this.imageData = imageData;
             return this;
@@ -115,6 +127,11 @@ public class EventDTO {
             return this;
         }
 
+        public EventDTOBuilder organizerImageUrl(String organizerImageUrl) {
+            this.organizerImageUrl = organizerImageUrl;
+            return this;
+        }
+
         public EventDTOBuilder organizerImageData(String organizerImageData) {
             this.organizerImageData = organizerImageData;
             return this;
@@ -140,6 +157,7 @@ public class EventDTO {
             event.setId(id);
             event.setName(name);
             event.setImageType(imageType);
+            event.setImageUrl(imageUrl);
             event.setImageData(imageData);
             event.setEventType(eventType);
             event.setDate(date);
@@ -151,6 +169,7 @@ public class EventDTO {
             event.setAddress(address);
             event.setOrganizerId(organizerId);
             event.setOrganizerImageType(organizerImageType);
+            event.setOrganizerImageUrl(organizerImageUrl);
             event.setOrganizerImageData(organizerImageData);
             event.setOrganizerName(organizerName);
             event.setDescription(description);
@@ -0,0 +1,20 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EventFacetDTO {
+    private Long id;
+    private LocalDateTime dateTime;
+    private String name;
+    private String city;
+    private EventType eventType;
+    private AdmissionType admission;
+    private String language;
+}
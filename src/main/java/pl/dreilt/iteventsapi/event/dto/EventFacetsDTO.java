@@ -0,0 +1,18 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class EventFacetsDTO {
+    private Map<EventType, Long> eventTypes;
+    private Map<AdmissionType, Long> admissions;
+    private Map<String, Long> languages;
+    private List<CityFacetDTO> cities;
+}
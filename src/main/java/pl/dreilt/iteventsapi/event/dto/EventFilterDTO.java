@@ -0,0 +1,20 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EventFilterDTO {
+    private List<EventType> eventTypes;
+    private List<AdmissionType> admissions;
+    private List<String> languages;
+    private List<String> cities;
+    private LocalDateTime from;
+    private LocalDateTime to;
+}
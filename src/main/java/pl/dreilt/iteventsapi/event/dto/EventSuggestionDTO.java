@@ -0,0 +1,14 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import pl.dreilt.iteventsapi.event.enumeration.SuggestionType;
+
+@Getter
+@AllArgsConstructor
+public class EventSuggestionDTO {
+    private SuggestionType type;
+    private String displayName;
+    private String value;
+    private long upcomingEvents;
+}
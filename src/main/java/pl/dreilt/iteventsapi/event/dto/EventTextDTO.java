@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EventTextDTO {
+    private Long id;
+    private String name;
+    private String description;
+}
@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Getter
+@AllArgsConstructor
+public class FilteredEventsDTO {
+    private Page<EventCardDTO> events;
+    private EventFacetsDTO facets;
+}
@@ -0,0 +1,13 @@
+package pl.dreilt.iteventsapi.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class HomeFeedDTO {
+    private List<EventCardDTO> events;
+    private String eTag;
+}
@@ -1,10 +1,14 @@
 package pl.dreilt.iteventsapi.event.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ParticipantDTO {
     private Long id;
     private String firstName;
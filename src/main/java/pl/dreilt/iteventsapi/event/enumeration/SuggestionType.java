@@ -0,0 +1,6 @@
+package pl.dreilt.iteventsapi.event.enumeration;
+
+public enum SuggestionType {
+    EVENT,
+    CITY
+}
@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.event.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
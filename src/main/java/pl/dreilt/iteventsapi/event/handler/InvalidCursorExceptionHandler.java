@@ -0,0 +1,28 @@
+package pl.dreilt.iteventsapi.event.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pl.dreilt.iteventsapi.core.AbstractExceptionHandler;
+import pl.dreilt.iteventsapi.event.exception.InvalidCursorException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestControllerAdvice
+public class InvalidCursorExceptionHandler extends AbstractExceptionHandler {
+    private static final String MESSAGE_CODE = "exception.InvalidCursorException.message";
+
+    public InvalidCursorExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+        super(messageSource, MESSAGE_CODE, objectMapper);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public void handle(HttpServletRequest request, HttpServletResponse response, Exception ex) throws IOException {
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        writeErrorAsJson(request, response, ex);
+    }
+}
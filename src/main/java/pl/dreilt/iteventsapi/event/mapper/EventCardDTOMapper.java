@@ -1,37 +1,29 @@
 package pl.dreilt.iteventsapi.event.mapper;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import pl.dreilt.iteventsapi.core.CursorPage;
 import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
-import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.event.dto.EventCursor;
 
-import java.time.format.DateTimeFormatter;
-import java.time.format.TextStyle;
 import java.util.List;
-import java.util.Locale;
-import java.util.stream.Collectors;
 
 public class EventCardDTOMapper {
 
-    public static List<EventCardDTO> mapToEventCardDTOs(List<Event> events) {
-        return events
-                .stream()
-                .map(EventCardDTOMapper::mapToEventCardDTO)
-                .collect(Collectors.toList());
+    public static Page<EventCardDTO> mapToEventCardPage(Slice<EventCardDTO> events, long total) {
+        return new PageImpl<>(events.getContent(), events.getPageable(), total);
     }
 
-    public static Page<EventCardDTO> mapToEventCardDTOs(Page<Event> events) {
-        return events.map(EventCardDTOMapper::mapToEventCardDTO);
-    }
+    public static CursorPage<EventCardDTO> mapToEventCardCursorPage(List<EventCardDTO> events, int size) {
+        boolean hasNext = events.size() > size;
+        List<EventCardDTO> pageEvents = hasNext ? events.subList(0, size) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            EventCardDTO lastEvent = pageEvents.get(pageEvents.size() - 1);
+            nextCursor = new EventCursor(lastEvent.getDateTime(), lastEvent.getId()).encode();
+        }
 
-    private static EventCardDTO mapToEventCardDTO(Event event) {
-        return new EventCardDTO.EventCardDTOBuilder()
-                .id(event.getId())
-                .date(event.getDateTime().format(DateTimeFormatter.ofPattern("dd.MM")))
-                .dayOfWeek(event.getDateTime().getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.getDefault()))
-                .name(event.getName())
-                .city(event.getCity())
-                .eventType(event.getEventType().getDisplayName())
-                .admission(event.getAdmission().getDisplayName())
-                .build();
+        return new CursorPage<>(pageEvents, size, hasNext, nextCursor);
     }
 }
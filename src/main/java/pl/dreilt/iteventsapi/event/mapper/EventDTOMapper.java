@@ -1,20 +1,25 @@
 package pl.dreilt.iteventsapi.event.mapper;
 
-import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
 import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.image.mapper.ImageUrlMapper;
 
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 
 public class EventDTOMapper {
 
-    public static EventDTO mapToEventDTO(Event event, AppUser currentUser) {
+    public static EventDTO mapToEventDTO(Event event, boolean currentUserIsParticipant) {
+        return mapToEventDTO(event, currentUserIsParticipant, null, null);
+    }
+
+    public static EventDTO mapToEventDTO(Event event, boolean currentUserIsParticipant, byte[] imageData, byte[] organizerImageData) {
         return new EventDTO.EventDTOBuilder()
                 .id(event.getId())
                 .name(event.getName())
                 .imageType(event.getEventImage().getFileType())
-                .imageData(Base64.getEncoder().encodeToString(event.getEventImage().getFileData()))
+                .imageUrl(ImageUrlMapper.mapToEventImageUrl(event.getEventImage()))
+                .imageData(imageData != null ? Base64.getEncoder().encodeToString(imageData) : null)
                 .eventType(event.getEventType().getDisplayName())
                 .date(event.getDateTime().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")))
                 .hour(event.getDateTime().format(DateTimeFormatter.ofPattern("HH:mm")))
@@ -25,10 +30,11 @@ public class EventDTOMapper {
                 .address(event.getAddress())
                 .organizerId(event.getOrganizer().getId())
                 .organizerImageType(event.getOrganizer().getProfileImage().getFileType())
-                .organizerImageData(Base64.getEncoder().encodeToString(event.getOrganizer().getProfileImage().getFileData()))
+                .organizerImageUrl(ImageUrlMapper.mapToProfileImageUrl(event.getOrganizer().getProfileImage()))
+                .organizerImageData(organizerImageData != null ? Base64.getEncoder().encodeToString(organizerImageData) : null)
                 .organizerName(event.getOrganizer().getFirstName() + " " + event.getOrganizer().getLastName())
                 .description(event.getDescription())
-                .currentUserIsParticipant(event.checkIfUserIsParticipant(currentUser))
+                .currentUserIsParticipant(currentUserIsParticipant)
                 .build();
     }
 }
@@ -9,11 +9,11 @@ import java.util.Base64;
 
 public class EventEditDTOMapper {
 
-    public static EventEditDTO mapToEventEditDTO(Event event) {
+    public static EventEditDTO mapToEventEditDTO(Event event, byte[] imageData) {
         EventEditDTO eventData = new EventEditDTO();
         eventData.setName(event.getName());
         eventData.setImageType(event.getEventImage().getFileType());
-        eventData.setImageData(Base64.getEncoder().encodeToString(event.getEventImage().getFileData()));
+        eventData.setImageData(Base64.getEncoder().encodeToString(imageData));
         eventData.setEventType(EventType.valueOf(event.getEventType().toString()));
         eventData.setDateTime(event.getDateTime().toString());
         eventData.setLanguage(event.getLanguage());
@@ -21,7 +21,7 @@ public class Event extends BaseEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String name;
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinTable(
             name = "event_event_image",
             joinColumns = @JoinColumn(name = "event_id", referencedColumnName = "id"),
@@ -49,18 +49,6 @@ public class Event extends BaseEntity {
     )
     private List<AppUser> participants = new ArrayList<>();
 
-    public void addParticipant(AppUser user) {
-        participants.add(user);
-    }
-
-    public void removeParticipant(AppUser user) {
-        participants.remove(user);
-    }
-
-    public boolean checkIfUserIsParticipant(AppUser user) {
-        return participants.contains(user);
-    }
-
     public static EventBuilder builder() {
         return new EventBuilder();
     }
@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.event.repository;
+
+public interface EventParticipantRepository {
+
+    int addParticipant(Long eventId, Long userId);
+
+    int removeParticipant(Long eventId, Long userId);
+}
@@ -0,0 +1,32 @@
+package pl.dreilt.iteventsapi.event.repository;
+
+import org.hibernate.query.NativeQuery;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class EventParticipantRepositoryImpl implements EventParticipantRepository {
+    private static final String EVENT_APP_USER = "event_app_user";
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addParticipant(Long eventId, Long userId) {
+        return executeUpdate("INSERT INTO event_app_user (event_id, app_user_id) VALUES (:eventId, :userId) " +
+                "ON DUPLICATE KEY UPDATE app_user_id = app_user_id", eventId, userId);
+    }
+
+    @Override
+    public int removeParticipant(Long eventId, Long userId) {
+        return executeUpdate("DELETE FROM event_app_user WHERE event_id = :eventId AND app_user_id = :userId", eventId, userId);
+    }
+
+    private int executeUpdate(String sql, Long eventId, Long userId) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(EVENT_APP_USER)
+                .setParameter("eventId", eventId)
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+}
@@ -2,43 +2,147 @@ package pl.dreilt.iteventsapi.event.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCityDTO;
+import pl.dreilt.iteventsapi.event.dto.EventFacetDTO;
+import pl.dreilt.iteventsapi.event.dto.EventTextDTO;
+import pl.dreilt.iteventsapi.event.dto.ParticipantDTO;
 import pl.dreilt.iteventsapi.event.model.Event;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
-public interface EventRepository extends PagingAndSortingRepository<Event, Long> {
+public interface EventRepository extends PagingAndSortingRepository<Event, Long>, EventParticipantRepository {
+    String SELECT_EVENT_CARD = "SELECT new pl.dreilt.iteventsapi.event.dto.EventCardDTO(e.id, e.dateTime, e.name, e.city, e.eventType, e.admission) FROM Event e ";
 
-    List<Event> findFirst10EventsByOrderByDateTimeAsc();
+    @Query("SELECT new pl.dreilt.iteventsapi.event.dto.EventCityDTO(e.city, COUNT(e)) FROM Event e GROUP BY e.city")
+    List<EventCityDTO> findAllEventCities();
 
-    @Query("SELECT DISTINCT e.city FROM Event e")
-    List<String> findAllCities();
+    @Query("SELECT new pl.dreilt.iteventsapi.event.dto.EventTextDTO(e.id, e.name, e.description) FROM Event e")
+    Slice<EventTextDTO> findAllEventTexts(Pageable pageable);
 
-    @Query("SELECT e FROM Event e WHERE e.dateTime > :currentDateTime")
-    Page<Event> findAllUpcomingEvents(@Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+    @Query("SELECT new pl.dreilt.iteventsapi.event.dto.EventFacetDTO(e.id, e.dateTime, e.name, e.city, e.eventType, e.admission, e.language) FROM Event e " +
+            "WHERE e.dateTime > :currentDateTime ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventFacetDTO> findUpcomingEventFacets(@Param("currentDateTime") LocalDateTime currentDateTime);
 
-    @Query("SELECT e FROM Event e WHERE e.city = :city AND e.dateTime > :currentDateTime")
-    Page<Event> findUpcomingEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+    @Query(SELECT_EVENT_CARD + "WHERE e.id IN :ids")
+    List<EventCardDTO> findEventCardsByIds(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT e FROM Event e WHERE e.dateTime < :currentDateTime")
-    Page<Event> findAllPastEvents(@Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+    @Query(value = "SELECT COUNT(*) FROM event_app_user WHERE event_id = :eventId AND app_user_id = :userId", nativeQuery = true)
+    long countParticipant(@Param("eventId") Long eventId, @Param("userId") Long userId);
 
-    @Query("SELECT e FROM Event e WHERE e.city = :city AND e.dateTime < :currentDateTime")
-    Page<Event> findPastEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+    @Query(value = "SELECT new pl.dreilt.iteventsapi.event.dto.ParticipantDTO(u.id, u.firstName, u.lastName) FROM AppUser u " +
+            "WHERE u.id IN (SELECT p.id FROM Event e JOIN e.participants p WHERE e.id = :eventId)",
+            countQuery = "SELECT COUNT(p) FROM Event e JOIN e.participants p WHERE e.id = :eventId")
+    Page<ParticipantDTO> findEventParticipants(@Param("eventId") Long eventId, Pageable pageable);
 
-    @Query("SELECT e FROM Event e WHERE e.organizer = :organizer")
-    Page<Event> findOrganizerEvents(@Param("organizer") AppUser organizer, Pageable pageable);
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.dateTime > :currentDateTime")
+    long countAllUpcomingEvents(@Param("currentDateTime") LocalDateTime currentDateTime);
 
-    @Query("SELECT e FROM Event e WHERE e.organizer = :organizer AND e.city = :city")
-    Page<Event> findOrganizerEventsByCity(@Param("organizer") AppUser organizer, @Param("city") String city, Pageable pageable);
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.city = :city AND e.dateTime > :currentDateTime")
+    long countUpcomingEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime);
 
-    @Query("SELECT e FROM Event e WHERE :user MEMBER OF e.participants ORDER BY e.dateTime ASC")
-    Page<Event> findUserEvents(@Param("user") AppUser user, Pageable pageable);
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.dateTime < :currentDateTime")
+    long countAllPastEvents(@Param("currentDateTime") LocalDateTime currentDateTime);
 
-    @Query("SELECT e FROM Event e WHERE :user MEMBER OF e.participants AND e.city = :city ORDER BY e.dateTime ASC")
-    Page<Event> findUserEventsByCity(@Param("user") AppUser user, @Param("city") String city, Pageable pageable);
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.city = :city AND e.dateTime < :currentDateTime")
+    long countPastEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.dateTime > :currentDateTime")
+    Slice<EventCardDTO> findAllUpcomingEvents(@Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.dateTime > :currentDateTime " +
+            "AND (e.dateTime > :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id > :cursorId)) " +
+            "ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventCardDTO> findAllUpcomingEventsAfter(@Param("currentDateTime") LocalDateTime currentDateTime,
+                                           @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.city = :city AND e.dateTime > :currentDateTime")
+    Slice<EventCardDTO> findUpcomingEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.city = :city AND e.dateTime > :currentDateTime " +
+            "AND (e.dateTime > :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id > :cursorId)) " +
+            "ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventCardDTO> findUpcomingEventsByCityAfter(@Param("city") String city,
+                                              @Param("currentDateTime") LocalDateTime currentDateTime,
+                                              @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                              @Param("cursorId") Long cursorId,
+                                              Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.dateTime < :currentDateTime")
+    Slice<EventCardDTO> findAllPastEvents(@Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.dateTime < :currentDateTime " +
+            "AND (e.dateTime < :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id < :cursorId)) " +
+            "ORDER BY e.dateTime DESC, e.id DESC")
+    List<EventCardDTO> findAllPastEventsBefore(@Param("currentDateTime") LocalDateTime currentDateTime,
+                                        @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.city = :city AND e.dateTime < :currentDateTime")
+    Slice<EventCardDTO> findPastEventsByCity(@Param("city") String city, @Param("currentDateTime") LocalDateTime currentDateTime, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.city = :city AND e.dateTime < :currentDateTime " +
+            "AND (e.dateTime < :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id < :cursorId)) " +
+            "ORDER BY e.dateTime DESC, e.id DESC")
+    List<EventCardDTO> findPastEventsByCityBefore(@Param("city") String city,
+                                           @Param("currentDateTime") LocalDateTime currentDateTime,
+                                           @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    @Query(value = SELECT_EVENT_CARD + "WHERE e.organizer = :organizer",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.organizer = :organizer")
+    Page<EventCardDTO> findOrganizerEvents(@Param("organizer") AppUser organizer, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.organizer = :organizer")
+    Slice<EventCardDTO> findOrganizerEventsSlice(@Param("organizer") AppUser organizer, Pageable pageable);
+
+    @Query(value = SELECT_EVENT_CARD + "WHERE e.organizer = :organizer AND e.city = :city",
+            countQuery = "SELECT COUNT(e) FROM Event e WHERE e.organizer = :organizer AND e.city = :city")
+    Page<EventCardDTO> findOrganizerEventsByCity(@Param("organizer") AppUser organizer, @Param("city") String city, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "WHERE e.organizer = :organizer AND e.city = :city")
+    Slice<EventCardDTO> findOrganizerEventsByCitySlice(@Param("organizer") AppUser organizer, @Param("city") String city, Pageable pageable);
+
+    @Query(value = SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user",
+            countQuery = "SELECT COUNT(e) FROM Event e JOIN e.participants p WHERE p = :user")
+    Page<EventCardDTO> findUserEvents(@Param("user") AppUser user, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user")
+    Slice<EventCardDTO> findUserEventsSlice(@Param("user") AppUser user, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user AND e.dateTime > :currentDateTime " +
+            "AND (e.dateTime > :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id > :cursorId)) " +
+            "ORDER BY e.dateTime ASC, e.id ASC")
+    List<EventCardDTO> findUserUpcomingEventsAfter(@Param("user") AppUser user,
+                                                   @Param("currentDateTime") LocalDateTime currentDateTime,
+                                                   @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                                   @Param("cursorId") Long cursorId,
+                                                   Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user AND e.dateTime < :currentDateTime " +
+            "AND (e.dateTime < :cursorDateTime OR (e.dateTime = :cursorDateTime AND e.id < :cursorId)) " +
+            "ORDER BY e.dateTime DESC, e.id DESC")
+    List<EventCardDTO> findUserPastEventsBefore(@Param("user") AppUser user,
+                                                @Param("currentDateTime") LocalDateTime currentDateTime,
+                                                @Param("cursorDateTime") LocalDateTime cursorDateTime,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    @Query(value = SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user AND e.city = :city",
+            countQuery = "SELECT COUNT(e) FROM Event e JOIN e.participants p WHERE p = :user AND e.city = :city")
+    Page<EventCardDTO> findUserEventsByCity(@Param("user") AppUser user, @Param("city") String city, Pageable pageable);
+
+    @Query(SELECT_EVENT_CARD + "JOIN e.participants p WHERE p = :user AND e.city = :city")
+    Slice<EventCardDTO> findUserEventsByCitySlice(@Param("user") AppUser user, @Param("city") String city, Pageable pageable);
 }
@@ -0,0 +1,167 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.event.dto.*;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class EventFacetIndex {
+    private final Logger logger = LoggerFactory.getLogger(EventFacetIndex.class);
+    private final EventRepository eventRepository;
+    private final CityCatalogService cityCatalogService;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public EventFacetIndex(EventRepository eventRepository, CityCatalogService cityCatalogService) {
+        this.eventRepository = eventRepository;
+        this.cityCatalogService = cityCatalogService;
+    }
+
+    public FilteredEventsDTO filterUpcomingEvents(EventFilterDTO filter, LocalDateTime currentDateTime, Pageable page) {
+        Snapshot current = getSnapshot(currentDateTime);
+        BitSet matches = current.dateRange(currentDateTime, filter.getFrom(), filter.getTo());
+        retainSelected(matches, current.eventTypeBitmaps, filter.getEventTypes());
+        retainSelected(matches, current.admissionBitmaps, filter.getAdmissions());
+        retainSelected(matches, current.languageBitmaps, filter.getLanguages());
+        retainSelected(matches, current.cityBitmaps, filter.getCities());
+
+        List<EventCardDTO> pageEvents = new ArrayList<>();
+        Map<EventType, Long> eventTypeCounts = new EnumMap<>(EventType.class);
+        Map<AdmissionType, Long> admissionCounts = new EnumMap<>(AdmissionType.class);
+        Map<String, Long> languageCounts = new TreeMap<>();
+        Map<String, Long> cityCounts = new TreeMap<>();
+        long total = 0;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            if (total >= page.getOffset() && pageEvents.size() < page.getPageSize()) {
+                pageEvents.add(current.events[i]);
+            }
+            total++;
+            eventTypeCounts.merge(current.eventTypes[i], 1L, Long::sum);
+            admissionCounts.merge(current.admissions[i], 1L, Long::sum);
+            languageCounts.merge(current.languages[i], 1L, Long::sum);
+            cityCounts.merge(current.cities[i], 1L, Long::sum);
+        }
+
+        List<CityFacetDTO> cityFacets = new ArrayList<>();
+        cityCounts.forEach((city, events) -> cityFacets.add(new CityFacetDTO(city, current.cityDisplayNames.get(city), events)));
+        return new FilteredEventsDTO(
+                new PageImpl<>(pageEvents, page, total),
+                new EventFacetsDTO(eventTypeCounts, admissionCounts, languageCounts, cityFacets)
+        );
+    }
+
+    public void evictEventFacets() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot getSnapshot(LocalDateTime currentDateTime) {
+        Snapshot current = snapshot;
+        return current != null && !currentDateTime.isBefore(current.builtAt) ? current : reload(currentDateTime);
+    }
+
+    private synchronized Snapshot reload(LocalDateTime currentDateTime) {
+        long loadedGeneration = generation.get();
+        Snapshot loadedSnapshot = new Snapshot(currentDateTime, eventRepository.findUpcomingEventFacets(currentDateTime), cityCatalogService);
+        if (loadedGeneration == generation.get()) {
+            snapshot = loadedSnapshot;
+        }
+
+        logger.info("Event facet index loaded with " + loadedSnapshot.events.length + " upcoming events");
+        return loadedSnapshot;
+    }
+
+    private static <T> void retainSelected(BitSet matches, Map<T, BitSet> bitmaps, List<T> selectedValues) {
+        if (selectedValues == null || selectedValues.isEmpty()) {
+            return;
+        }
+
+        BitSet selected = new BitSet();
+        for (T value : selectedValues) {
+            BitSet bitmap = bitmaps.get(value);
+            if (bitmap != null) {
+                selected.or(bitmap);
+            }
+        }
+        matches.and(selected);
+    }
+
+    private static class Snapshot {
+        private final LocalDateTime builtAt;
+        private final LocalDateTime[] dateTimes;
+        private final EventCardDTO[] events;
+        private final EventType[] eventTypes;
+        private final AdmissionType[] admissions;
+        private final String[] languages;
+        private final String[] cities;
+        private final Map<EventType, BitSet> eventTypeBitmaps = new EnumMap<>(EventType.class);
+        private final Map<AdmissionType, BitSet> admissionBitmaps = new EnumMap<>(AdmissionType.class);
+        private final Map<String, BitSet> languageBitmaps = new HashMap<>();
+        private final Map<String, BitSet> cityBitmaps = new HashMap<>();
+        private final Map<String, String> cityDisplayNames = new HashMap<>();
+
+        Snapshot(LocalDateTime builtAt, List<EventFacetDTO> upcomingEvents, CityCatalogService cityCatalogService) {
+            this.builtAt = builtAt;
+            int size = upcomingEvents.size();
+            dateTimes = new LocalDateTime[size];
+            events = new EventCardDTO[size];
+            eventTypes = new EventType[size];
+            admissions = new AdmissionType[size];
+            languages = new String[size];
+            cities = new String[size];
+            for (int i = 0; i < size; i++) {
+                EventFacetDTO event = upcomingEvents.get(i);
+                dateTimes[i] = event.getDateTime();
+                events[i] = new EventCardDTO(event.getId(), event.getDateTime(), event.getName(), event.getCity(), event.getEventType(), event.getAdmission());
+                eventTypes[i] = event.getEventType();
+                admissions[i] = event.getAdmission();
+                languages[i] = event.getLanguage();
+                cities[i] = cityCatalogService.getCityNameWithoutPlCharacters(event.getCity());
+                cityDisplayNames.putIfAbsent(cities[i], event.getCity());
+                eventTypeBitmaps.computeIfAbsent(eventTypes[i], value -> new BitSet(size)).set(i);
+                admissionBitmaps.computeIfAbsent(admissions[i], value -> new BitSet(size)).set(i);
+                languageBitmaps.computeIfAbsent(languages[i], value -> new BitSet(size)).set(i);
+                cityBitmaps.computeIfAbsent(cities[i], value -> new BitSet(size)).set(i);
+            }
+        }
+
+        BitSet dateRange(LocalDateTime currentDateTime, LocalDateTime from, LocalDateTime to) {
+            int start = firstAfter(currentDateTime);
+            if (from != null) {
+                start = Math.max(start, firstAfter(from.minusNanos(1)));
+            }
+            int end = to != null ? firstAfter(to) : dateTimes.length;
+
+            BitSet range = new BitSet(dateTimes.length);
+            if (start < end) {
+                range.set(start, end);
+            }
+            return range;
+        }
+
+        private int firstAfter(LocalDateTime dateTime) {
+            int low = 0;
+            int high = dateTimes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dateTimes[mid].isAfter(dateTime)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
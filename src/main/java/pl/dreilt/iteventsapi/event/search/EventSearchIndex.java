@@ -0,0 +1,103 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import liquibase.repackaged.org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class EventSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    private final Map<Long, IndexedEvent> events = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private volatile long totalLength;
+
+    public List<Long> search(String searchQuery) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(searchQuery));
+        int documentCount = events.size();
+        if (terms.isEmpty() || documentCount == 0) {
+            return List.of();
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength / documentCount);
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+
+            double idf = Math.log(1.0 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((id, termFrequency) -> {
+                IndexedEvent indexedEvent = events.get(id);
+                if (indexedEvent != null) {
+                    double lengthNorm = K1 * (1 - B + B * indexedEvent.length() / averageLength);
+                    scores.merge(id, idf * termFrequency * (K1 + 1) / (termFrequency + lengthNorm), Double::sum);
+                }
+            });
+        }
+
+        return scores.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public synchronized void index(Long id, String name, String description) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        tokenize(name).forEach(term -> termFrequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> termFrequencies.merge(term, 1, Integer::sum));
+        IndexedEvent indexedEvent = new IndexedEvent(termFrequencies, termFrequencies.values().stream().mapToInt(Integer::intValue).sum());
+        IndexedEvent previous = events.get(id);
+        if (indexedEvent.equals(previous)) {
+            return;
+        }
+
+        remove(id);
+        indexedEvent.termFrequencies().forEach((term, termFrequency) ->
+                postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, termFrequency));
+        events.put(id, indexedEvent);
+        totalLength += indexedEvent.length();
+    }
+
+    public synchronized void remove(Long id) {
+        IndexedEvent previous = events.remove(id);
+        if (previous != null) {
+            totalLength -= previous.length();
+            previous.termFrequencies().keySet().forEach(term -> {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term, posting);
+                    }
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(fold(text).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+
+    static String fold(String text) {
+        return StringUtils.stripAccents(text.toLowerCase(Locale.ROOT));
+    }
+
+    record IndexedEvent(Map<String, Integer> termFrequencies, int length) {
+    }
+}
@@ -0,0 +1,37 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.event.dto.EventTextDTO;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+@Component
+public class EventSearchIndexInitializer implements SmartInitializingSingleton {
+    private static final int BATCH_SIZE = 500;
+    private final Logger logger = LoggerFactory.getLogger(EventSearchIndexInitializer.class);
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+
+    public EventSearchIndexInitializer(EventRepository eventRepository, EventSearchIndex eventSearchIndex) {
+        this.eventRepository = eventRepository;
+        this.eventSearchIndex = eventSearchIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+        Slice<EventTextDTO> events;
+        do {
+            events = eventRepository.findAllEventTexts(pageable);
+            events.forEach(event -> eventSearchIndex.index(event.getId(), event.getName(), event.getDescription()));
+            pageable = events.nextPageable();
+        } while (events.hasNext());
+        logger.info("Event search index built for " + eventSearchIndex.size() + " events");
+    }
+}
@@ -0,0 +1,212 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.enumeration.SuggestionType;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class EventSuggestionIndex {
+    private static final int MAX_SUGGESTIONS = 10;
+    private final CityCatalogService cityCatalogService;
+    private final Map<Character, TrieNode> roots = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedEvent> events = new ConcurrentHashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Long>> eventIdsByDateTime = new ConcurrentSkipListMap<>();
+    private final Map<String, Suggestion> suggestions = new ConcurrentHashMap<>();
+
+    public EventSuggestionIndex(CityCatalogService cityCatalogService) {
+        this.cityCatalogService = cityCatalogService;
+    }
+
+    public List<EventSuggestionDTO> suggest(String prefix, LocalDateTime currentDateTime) {
+        String foldedPrefix = prefix != null ? EventSearchIndex.fold(prefix).trim() : "";
+        if (foldedPrefix.isEmpty()) {
+            return List.of();
+        }
+
+        Map.Entry<LocalDateTime, Set<Long>> firstEvent = eventIdsByDateTime.firstEntry();
+        if (firstEvent != null && !firstEvent.getKey().isAfter(currentDateTime)) {
+            removePastEvents(currentDateTime);
+        }
+
+        TrieNode node = roots.get(foldedPrefix.charAt(0));
+        for (int i = 1; i < foldedPrefix.length() && node != null; i++) {
+            node = node.children.get(foldedPrefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        return node.topSuggestions.stream()
+                .map(suggestion -> new EventSuggestionDTO(suggestion.type, suggestion.displayName, suggestion.value, suggestion.getUpcomingEvents()))
+                .toList();
+    }
+
+    public synchronized void index(Long id, String name, String city, LocalDateTime dateTime) {
+        IndexedEvent indexedEvent = new IndexedEvent(name, city, dateTime);
+        IndexedEvent previous = events.put(id, indexedEvent);
+        if (indexedEvent.equals(previous)) {
+            return;
+        }
+
+        if (previous != null) {
+            removeEvent(id, previous);
+        }
+        String cityNameWithoutPlCharacters = cityCatalogService.getCityNameWithoutPlCharacters(city);
+        addEvent(SuggestionType.EVENT, EventSearchIndex.fold(name), name, name);
+        addEvent(SuggestionType.CITY, cityNameWithoutPlCharacters, city, cityNameWithoutPlCharacters);
+        eventIdsByDateTime.computeIfAbsent(dateTime, key -> new HashSet<>()).add(id);
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private synchronized void removePastEvents(LocalDateTime currentDateTime) {
+        NavigableMap<LocalDateTime, Set<Long>> pastEvents = eventIdsByDateTime.headMap(currentDateTime, true);
+        for (Set<Long> ids : List.copyOf(pastEvents.values())) {
+            for (Long id : List.copyOf(ids)) {
+                IndexedEvent pastEvent = events.remove(id);
+                if (pastEvent != null) {
+                    removeEvent(id, pastEvent);
+                }
+            }
+        }
+        pastEvents.clear();
+    }
+
+    private void removeEvent(Long id, IndexedEvent indexedEvent) {
+        removeSuggestion(SuggestionType.EVENT, EventSearchIndex.fold(indexedEvent.name()));
+        removeSuggestion(SuggestionType.CITY, cityCatalogService.getCityNameWithoutPlCharacters(indexedEvent.city()));
+        eventIdsByDateTime.computeIfPresent(indexedEvent.dateTime(), (dateTime, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids);
+    }
+
+    private void addEvent(SuggestionType type, String key, String displayName, String value) {
+        Suggestion suggestion = suggestions.computeIfAbsent(type + ":" + key, k -> new Suggestion(type, displayName, value));
+        suggestion.upcomingEvents++;
+        wordStarts(key).forEach(wordStart -> roots.computeIfAbsent(key.charAt(wordStart), c -> new TrieNode()).insert(key, wordStart + 1, suggestion));
+    }
+
+    private void removeSuggestion(SuggestionType type, String key) {
+        Suggestion suggestion = suggestions.get(type + ":" + key);
+        if (suggestion != null) {
+            boolean isEmpty = --suggestion.upcomingEvents <= 0;
+            if (isEmpty) {
+                suggestions.remove(type + ":" + key);
+            }
+            for (int wordStart : wordStarts(key)) {
+                TrieNode node = roots.get(key.charAt(wordStart));
+                if (node != null && node.remove(key, wordStart + 1, isEmpty ? suggestion : null)) {
+                    roots.remove(key.charAt(wordStart));
+                }
+            }
+        }
+    }
+
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> wordStarts = new ArrayList<>();
+        for (int i = 0; i < key.length(); i++) {
+            if (Character.isLetterOrDigit(key.charAt(i)) && (i == 0 || !Character.isLetterOrDigit(key.charAt(i - 1)))) {
+                wordStarts.add(i);
+            }
+        }
+        return wordStarts;
+    }
+
+    private record IndexedEvent(String name, String city, LocalDateTime dateTime) {
+    }
+
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new ConcurrentHashMap<>();
+        private final Set<Suggestion> suggestions = new HashSet<>();
+        private volatile List<Suggestion> topSuggestions = List.of();
+
+        void insert(String key, int position, Suggestion suggestion) {
+            if (position == key.length()) {
+                suggestions.add(suggestion);
+            } else {
+                children.computeIfAbsent(key.charAt(position), c -> new TrieNode()).insert(key, position + 1, suggestion);
+            }
+            rerank();
+        }
+
+        boolean remove(String key, int position, Suggestion suggestion) {
+            if (position == key.length()) {
+                if (suggestion != null) {
+                    suggestions.remove(suggestion);
+                }
+            } else {
+                TrieNode child = children.get(key.charAt(position));
+                if (child != null && child.remove(key, position + 1, suggestion)) {
+                    children.remove(key.charAt(position));
+                }
+            }
+            rerank();
+            return suggestions.isEmpty() && children.isEmpty();
+        }
+
+        private void rerank() {
+            List<Suggestion> top = new ArrayList<>(MAX_SUGGESTIONS + 1);
+            suggestions.forEach(suggestion -> offer(top, suggestion));
+            for (TrieNode child : children.values()) {
+                for (Suggestion suggestion : child.topSuggestions) {
+                    if (!offer(top, suggestion)) {
+                        break;
+                    }
+                }
+            }
+            topSuggestions = List.copyOf(top);
+        }
+
+        private static boolean offer(List<Suggestion> top, Suggestion suggestion) {
+            if (top.size() == MAX_SUGGESTIONS && suggestion.compareTo(top.get(MAX_SUGGESTIONS - 1)) >= 0) {
+                return false;
+            }
+            if (top.contains(suggestion)) {
+                return true;
+            }
+
+            int position = 0;
+            while (position < top.size() && top.get(position).compareTo(suggestion) < 0) {
+                position++;
+            }
+            top.add(position, suggestion);
+            if (top.size() > MAX_SUGGESTIONS) {
+                top.remove(MAX_SUGGESTIONS);
+            }
+            return true;
+        }
+    }
+
+    private static class Suggestion implements Comparable<Suggestion> {
+        private final SuggestionType type;
+        private final String displayName;
+        private final String value;
+        private volatile long upcomingEvents;
+
+        Suggestion(SuggestionType type, String displayName, String value) {
+            this.type = type;
+            this.displayName = displayName;
+            this.value = value;
+        }
+
+        long getUpcomingEvents() {
+            return upcomingEvents;
+        }
+
+        @Override
+        public int compareTo(Suggestion other) {
+            int byUpcomingEvents = Long.compare(other.upcomingEvents, upcomingEvents);
+            if (byUpcomingEvents != 0) {
+                return byUpcomingEvents;
+            }
+            int byDisplayName = displayName.compareTo(other.displayName);
+            return byDisplayName != 0 ? byDisplayName : type.compareTo(other.type);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.event.dto.EventFacetDTO;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.time.LocalDateTime;
+
+@Component
+public class EventSuggestionIndexInitializer implements SmartInitializingSingleton {
+    private final Logger logger = LoggerFactory.getLogger(EventSuggestionIndexInitializer.class);
+    private final EventRepository eventRepository;
+    private final EventSuggestionIndex eventSuggestionIndex;
+
+    public EventSuggestionIndexInitializer(EventRepository eventRepository, EventSuggestionIndex eventSuggestionIndex) {
+        this.eventRepository = eventRepository;
+        this.eventSuggestionIndex = eventSuggestionIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (EventFacetDTO event : eventRepository.findUpcomingEventFacets(LocalDateTime.now())) {
+            eventSuggestionIndex.index(event.getId(), event.getName(), event.getCity(), event.getDateTime());
+        }
+        logger.info("Event suggestion index built for " + eventSuggestionIndex.size() + " upcoming events");
+    }
+}
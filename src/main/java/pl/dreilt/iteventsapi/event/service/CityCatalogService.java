@@ -0,0 +1,18 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import pl.dreilt.iteventsapi.event.dto.CityDTO;
+
+import java.util.List;
+
+public interface CityCatalogService {
+
+    List<CityDTO> findAllCities();
+
+    String getCityDisplayName(String nameWithoutPlCharacters);
+
+    String getCityNameWithoutPlCharacters(String city);
+
+    void addEvent(String city);
+
+    void moveEvent(String previousCity, String city);
+}
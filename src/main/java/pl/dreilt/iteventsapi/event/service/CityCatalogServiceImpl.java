@@ -0,0 +1,116 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import liquibase.repackaged.org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import pl.dreilt.iteventsapi.event.dto.CityDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCityDTO;
+import pl.dreilt.iteventsapi.event.exception.CityNotFoundException;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class CityCatalogServiceImpl implements CityCatalogService, SmartInitializingSingleton {
+    private final Logger logger = LoggerFactory.getLogger(CityCatalogServiceImpl.class);
+    private final EventRepository eventRepository;
+    private volatile Map<String, CityEntry> cities;
+
+    public CityCatalogServiceImpl(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    public List<CityDTO> findAllCities() {
+        List<CityDTO> cityDTOs = new ArrayList<>();
+        for (Map.Entry<String, CityEntry> entry : getCities().entrySet()) {
+            CityDTO cityDTO = new CityDTO();
+            cityDTO.setNameWithoutPlCharacters(entry.getKey());
+            cityDTO.setDisplayName(entry.getValue().getDisplayName());
+            cityDTOs.add(cityDTO);
+        }
+
+        return cityDTOs;
+    }
+
+    public String getCityDisplayName(String nameWithoutPlCharacters) {
+        CityEntry cityEntry = getCities().get(nameWithoutPlCharacters);
+        if (cityEntry == null) {
+            throw new CityNotFoundException("City with name " + nameWithoutPlCharacters + " not found");
+        }
+
+        return cityEntry.getDisplayName();
+    }
+
+    public void addEvent(String city) {
+        add(getCities(), city, 1L);
+    }
+
+    public void moveEvent(String previousCity, String city) {
+        Map<String, CityEntry> currentCities = getCities();
+        currentCities.computeIfPresent(getCityNameWithoutPlCharacters(previousCity), (name, cityEntry) -> cityEntry.remove() ? null : cityEntry);
+        add(currentCities, city, 1L);
+    }
+
+    private Map<String, CityEntry> getCities() {
+        Map<String, CityEntry> currentCities = cities;
+        return currentCities != null ? currentCities : reload();
+    }
+
+    private synchronized Map<String, CityEntry> reload() {
+        Map<String, CityEntry> loadedCities = new ConcurrentHashMap<>();
+        for (EventCityDTO eventCity : eventRepository.findAllEventCities()) {
+            add(loadedCities, eventCity.getCity(), eventCity.getEvents());
+        }
+
+        cities = loadedCities;
+        logger.info("City catalog loaded with " + loadedCities.size() + " cities");
+        return loadedCities;
+    }
+
+    private void add(Map<String, CityEntry> cities, String city, long events) {
+        cities.compute(getCityNameWithoutPlCharacters(city), (name, cityEntry) -> {
+            CityEntry entry = cityEntry != null ? cityEntry : new CityEntry(city);
+            entry.add(events);
+            return entry;
+        });
+    }
+
+    public String getCityNameWithoutPlCharacters(String city) {
+        city = city.toLowerCase();
+        city = city.replace("\\s", "-");
+        city = StringUtils.stripAccents(city);
+        return city;
+    }
+
+    private static class CityEntry {
+        private final String displayName;
+        private long events;
+
+        CityEntry(String displayName) {
+            this.displayName = displayName;
+        }
+
+        String getDisplayName() {
+            return displayName;
+        }
+
+        synchronized void add(long count) {
+            events += count;
+        }
+
+        synchronized boolean remove() {
+            events--;
+            return events <= 0;
+        }
+    }
+}
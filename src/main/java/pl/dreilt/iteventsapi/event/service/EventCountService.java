@@ -0,0 +1,16 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import java.time.LocalDateTime;
+
+public interface EventCountService {
+
+    long countAllUpcomingEvents(LocalDateTime currentDateTime);
+
+    long countUpcomingEventsByCity(String city, LocalDateTime currentDateTime);
+
+    long countAllPastEvents(LocalDateTime currentDateTime);
+
+    long countPastEventsByCity(String city, LocalDateTime currentDateTime);
+
+    void evictEventCounts();
+}
@@ -0,0 +1,41 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.time.LocalDateTime;
+
+@Service
+public class EventCountServiceImpl implements EventCountService {
+    private final EventRepository eventRepository;
+
+    public EventCountServiceImpl(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Cacheable(cacheNames = "eventCount", key = "'upcoming'")
+    public long countAllUpcomingEvents(LocalDateTime currentDateTime) {
+        return eventRepository.countAllUpcomingEvents(currentDateTime);
+    }
+
+    @Cacheable(cacheNames = "eventCount", key = "'upcoming:' + #city")
+    public long countUpcomingEventsByCity(String city, LocalDateTime currentDateTime) {
+        return eventRepository.countUpcomingEventsByCity(city, currentDateTime);
+    }
+
+    @Cacheable(cacheNames = "eventCount", key = "'past'")
+    public long countAllPastEvents(LocalDateTime currentDateTime) {
+        return eventRepository.countAllPastEvents(currentDateTime);
+    }
+
+    @Cacheable(cacheNames = "eventCount", key = "'past:' + #city")
+    public long countPastEventsByCity(String city, LocalDateTime currentDateTime) {
+        return eventRepository.countPastEventsByCity(city, currentDateTime);
+    }
+
+    @CacheEvict(cacheNames = "eventCount", allEntries = true)
+    public void evictEventCounts() {
+    }
+}
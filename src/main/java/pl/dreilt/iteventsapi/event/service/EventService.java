@@ -2,35 +2,69 @@ package pl.dreilt.iteventsapi.event.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.core.CursorPage;
 import pl.dreilt.iteventsapi.event.dto.CityDTO;
 import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCursor;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
+import pl.dreilt.iteventsapi.event.dto.EventFilterDTO;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.dto.FilteredEventsDTO;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EventService {
 
-    List<EventCardDTO> findFirst10UpcomingEvents();
-
-    EventDTO findEvent(Long id, AppUser currentUser);
+    EventDTO findEvent(Long id, AppUser currentUser, boolean inlineImages);
 
     List<CityDTO> findAllCities();
 
     Page<EventCardDTO> findAllUpcomingEvents(LocalDateTime currentDateTime, Pageable page);
 
+    Slice<EventCardDTO> findAllUpcomingEventsSlice(LocalDateTime currentDateTime, Pageable page);
+
+    CursorPage<EventCardDTO> findAllUpcomingEvents(LocalDateTime currentDateTime, EventCursor cursor, int size);
+
     Page<EventCardDTO> findUpcomingEventsByCity(String city, LocalDateTime currentDateTime, Pageable page);
 
+    Slice<EventCardDTO> findUpcomingEventsByCitySlice(String city, LocalDateTime currentDateTime, Pageable page);
+
+    CursorPage<EventCardDTO> findUpcomingEventsByCity(String city, LocalDateTime currentDateTime, EventCursor cursor, int size);
+
     Page<EventCardDTO> findAllPastEvents(LocalDateTime currentDateTime, Pageable page);
 
+    Slice<EventCardDTO> findAllPastEventsSlice(LocalDateTime currentDateTime, Pageable page);
+
+    CursorPage<EventCardDTO> findAllPastEvents(LocalDateTime currentDateTime, EventCursor cursor, int size);
+
     Page<EventCardDTO> findPastEventsByCity(String city, LocalDateTime currentDateTime, Pageable page);
 
+    Slice<EventCardDTO> findPastEventsByCitySlice(String city, LocalDateTime currentDateTime, Pageable page);
+
+    CursorPage<EventCardDTO> findPastEventsByCity(String city, LocalDateTime currentDateTime, EventCursor cursor, int size);
+
+    Page<EventCardDTO> searchEvents(String searchQuery, Pageable page);
+
+    FilteredEventsDTO filterUpcomingEvents(EventFilterDTO filter, LocalDateTime currentDateTime, Pageable page);
+
+    List<EventSuggestionDTO> suggestEvents(String prefix, LocalDateTime currentDateTime);
+
     EventDTO addUserToEventParticipantsList(AppUser currentUser, Long id);
 
     EventDTO removeUserFromEventParticipantsList(AppUser currentUser, Long id);
 
     Page<EventCardDTO> findUserEvents(AppUser currentUser, Pageable page);
 
+    Slice<EventCardDTO> findUserEventsSlice(AppUser currentUser, Pageable page);
+
+    CursorPage<EventCardDTO> findUserUpcomingEvents(AppUser currentUser, LocalDateTime currentDateTime, EventCursor cursor, int size);
+
+    CursorPage<EventCardDTO> findUserPastEvents(AppUser currentUser, LocalDateTime currentDateTime, EventCursor cursor, int size);
+
     Page<EventCardDTO> findUserEventsByCity(AppUser currentUser, String city, Pageable page);
+
+    Slice<EventCardDTO> findUserEventsByCitySlice(AppUser currentUser, String city, Pageable page);
 }
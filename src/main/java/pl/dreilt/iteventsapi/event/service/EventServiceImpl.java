@@ -1,73 +1,171 @@
 package pl.dreilt.iteventsapi.event.service;
 
-import liquibase.repackaged.org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.core.CursorPage;
 import pl.dreilt.iteventsapi.event.exception.EventNotFoundException;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
 import pl.dreilt.iteventsapi.event.dto.CityDTO;
 import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCursor;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
+import pl.dreilt.iteventsapi.event.dto.EventFilterDTO;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.dto.FilteredEventsDTO;
 import pl.dreilt.iteventsapi.event.mapper.EventCardDTOMapper;
 import pl.dreilt.iteventsapi.event.mapper.EventDTOMapper;
 import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.event.search.EventFacetIndex;
+import pl.dreilt.iteventsapi.event.search.EventSearchIndex;
+import pl.dreilt.iteventsapi.event.search.EventSuggestionIndex;
+import pl.dreilt.iteventsapi.eventimage.service.EventImageService;
+import pl.dreilt.iteventsapi.profileimage.service.ProfileImageService;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class EventServiceImpl implements EventService {
     private final Logger logger = LoggerFactory.getLogger(EventServiceImpl.class);
     private final EventRepository eventRepository;
-
-    public EventServiceImpl(EventRepository eventRepository) {
+    private final EventCountService eventCountService;
+    private final CityCatalogService cityCatalogService;
+    private final EventImageService eventImageService;
+    private final ProfileImageService profileImageService;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventFacetIndex eventFacetIndex;
+    private final EventSuggestionIndex eventSuggestionIndex;
+
+    public EventServiceImpl(
+            EventRepository eventRepository,
+            EventCountService eventCountService,
+            CityCatalogService cityCatalogService,
+            EventImageService eventImageService,
+            ProfileImageService profileImageService,
+            EventSearchIndex eventSearchIndex,
+            EventFacetIndex eventFacetIndex,
+            EventSuggestionIndex eventSuggestionIndex
+    ) {
         this.eventRepository = eventRepository;
+        this.eventCountService = eventCountService;
+        this.cityCatalogService = cityCatalogService;
+        this.eventImageService = eventImageService;
+        this.profileImageService = profileImageService;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventFacetIndex = eventFacetIndex;
+        this.eventSuggestionIndex = eventSuggestionIndex;
     }
 
-    public List<EventCardDTO> findFirst10UpcomingEvents() {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findFirst10EventsByOrderByDateTimeAsc());
-    }
-
-    public EventDTO findEvent(Long id, AppUser currentUser) {
+    public EventDTO findEvent(Long id, AppUser currentUser, boolean inlineImages) {
         return eventRepository.findById(id)
-                .map(event -> EventDTOMapper.mapToEventDTO(event, currentUser))
+                .map(event -> inlineImages
+                        ? EventDTOMapper.mapToEventDTO(event, checkIfUserIsParticipant(event, currentUser),
+                        eventImageService.readEventImage(event.getEventImage()),
+                        profileImageService.readProfileImage(event.getOrganizer().getProfileImage()))
+                        : EventDTOMapper.mapToEventDTO(event, checkIfUserIsParticipant(event, currentUser)))
                 .orElseThrow(() -> new EventNotFoundException("Event with ID " + id + " not found"));
     }
 
     public List<CityDTO> findAllCities() {
-        List<String> cities = eventRepository.findAllCities();
-        List<CityDTO> cityDTOs = new ArrayList<>();
-        for (String city : cities) {
-            CityDTO cityDTO = new CityDTO();
-            cityDTO.setNameWithoutPlCharacters(getCityNameWithoutPlCharacters(city));
-            cityDTO.setDisplayName(city);
-            cityDTOs.add(cityDTO);
-        }
-
-        return cityDTOs;
+        return cityCatalogService.findAllCities();
     }
 
     public Page<EventCardDTO> findAllUpcomingEvents(LocalDateTime currentDateTime, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findAllUpcomingEvents(currentDateTime, page));
+        Slice<EventCardDTO> events = eventRepository.findAllUpcomingEvents(currentDateTime, page);
+        return EventCardDTOMapper.mapToEventCardPage(events, eventCountService.countAllUpcomingEvents(currentDateTime));
+    }
+
+    public Slice<EventCardDTO> findAllUpcomingEventsSlice(LocalDateTime currentDateTime, Pageable page) {
+        return eventRepository.findAllUpcomingEvents(currentDateTime, page);
+    }
+
+    public CursorPage<EventCardDTO> findAllUpcomingEvents(LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor after = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MAX_VALUE);
+        List<EventCardDTO> events = eventRepository.findAllUpcomingEventsAfter(currentDateTime, after.getDateTime(), after.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
     }
 
     public Page<EventCardDTO> findUpcomingEventsByCity(String city, LocalDateTime currentDateTime, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findUpcomingEventsByCity(city, currentDateTime, page));
+        Slice<EventCardDTO> events = eventRepository.findUpcomingEventsByCity(city, currentDateTime, page);
+        return EventCardDTOMapper.mapToEventCardPage(events, eventCountService.countUpcomingEventsByCity(city, currentDateTime));
+    }
+
+    public Slice<EventCardDTO> findUpcomingEventsByCitySlice(String city, LocalDateTime currentDateTime, Pageable page) {
+        return eventRepository.findUpcomingEventsByCity(city, currentDateTime, page);
+    }
+
+    public CursorPage<EventCardDTO> findUpcomingEventsByCity(String city, LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor after = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MAX_VALUE);
+        List<EventCardDTO> events = eventRepository.findUpcomingEventsByCityAfter(city, currentDateTime, after.getDateTime(), after.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
     }
 
     public Page<EventCardDTO> findAllPastEvents(LocalDateTime currentDateTime, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findAllPastEvents(currentDateTime, page));
+        Slice<EventCardDTO> events = eventRepository.findAllPastEvents(currentDateTime, page);
+        return EventCardDTOMapper.mapToEventCardPage(events, eventCountService.countAllPastEvents(currentDateTime));
+    }
+
+    public Slice<EventCardDTO> findAllPastEventsSlice(LocalDateTime currentDateTime, Pageable page) {
+        return eventRepository.findAllPastEvents(currentDateTime, page);
+    }
+
+    public CursorPage<EventCardDTO> findAllPastEvents(LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor before = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MIN_VALUE);
+        List<EventCardDTO> events = eventRepository.findAllPastEventsBefore(currentDateTime, before.getDateTime(), before.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
     }
 
     public Page<EventCardDTO> findPastEventsByCity(String city, LocalDateTime currentDateTime, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findPastEventsByCity(city, currentDateTime, page));
+        Slice<EventCardDTO> events = eventRepository.findPastEventsByCity(city, currentDateTime, page);
+        return EventCardDTOMapper.mapToEventCardPage(events, eventCountService.countPastEventsByCity(city, currentDateTime));
+    }
+
+    public Slice<EventCardDTO> findPastEventsByCitySlice(String city, LocalDateTime currentDateTime, Pageable page) {
+        return eventRepository.findPastEventsByCity(city, currentDateTime, page);
+    }
+
+    public CursorPage<EventCardDTO> findPastEventsByCity(String city, LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor before = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MIN_VALUE);
+        List<EventCardDTO> events = eventRepository.findPastEventsByCityBefore(city, currentDateTime, before.getDateTime(), before.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
+    }
+
+    public Page<EventCardDTO> searchEvents(String searchQuery, Pageable page) {
+        List<Long> eventIds = eventSearchIndex.search(searchQuery);
+        if (page.getOffset() >= eventIds.size()) {
+            return new PageImpl<>(List.of(), page, eventIds.size());
+        }
+
+        List<Long> pageEventIds = eventIds.subList((int) page.getOffset(), (int) Math.min(page.getOffset() + page.getPageSize(), eventIds.size()));
+        Map<Long, EventCardDTO> events = eventRepository.findEventCardsByIds(pageEventIds)
+                .stream()
+                .collect(Collectors.toMap(EventCardDTO::getId, Function.identity()));
+        List<EventCardDTO> rankedEvents = pageEventIds.stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(rankedEvents, page, eventIds.size());
+    }
+
+    public FilteredEventsDTO filterUpcomingEvents(EventFilterDTO filter, LocalDateTime currentDateTime, Pageable page) {
+        return eventFacetIndex.filterUpcomingEvents(filter, currentDateTime, page);
+    }
+
+    public List<EventSuggestionDTO> suggestEvents(String prefix, LocalDateTime currentDateTime) {
+        return eventSuggestionIndex.suggest(prefix, currentDateTime);
     }
 
     @Transactional
@@ -75,12 +173,11 @@ public class EventServiceImpl implements EventService {
         Optional<Event> eventOpt = eventRepository.findById(id);
         if (eventOpt.isPresent()) {
             Event event = eventOpt.get();
-            if (!event.checkIfUserIsParticipant(currentUser)) {
-                event.addParticipant(currentUser);
+            if (eventRepository.addParticipant(event.getId(), currentUser.getId()) > 0) {
                 logger.info("User [ID: " + currentUser.getId() + "] added to event [ID: " + event.getId() + "] participants list");
             }
 
-            return EventDTOMapper.mapToEventDTO(event, currentUser);
+            return EventDTOMapper.mapToEventDTO(event, true);
         }
 
         throw new EventNotFoundException("Event with ID " + id + " not found");
@@ -91,29 +188,45 @@ public class EventServiceImpl implements EventService {
         Optional<Event> eventOpt = eventRepository.findById(id);
         if (eventOpt.isPresent()) {
             Event event = eventOpt.get();
-            if (event.checkIfUserIsParticipant(currentUser)) {
-                event.removeParticipant(currentUser);
+            if (eventRepository.removeParticipant(event.getId(), currentUser.getId()) > 0) {
                 logger.info("User [ID: " + currentUser.getId() + "] removed from event [ID: " + event.getId() + "] participants list");
             }
 
-            return EventDTOMapper.mapToEventDTO(event, currentUser);
+            return EventDTOMapper.mapToEventDTO(event, false);
         }
 
         throw new EventNotFoundException("Event with ID " + id + " not found");
     }
 
     public Page<EventCardDTO> findUserEvents(AppUser user, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findUserEvents(user, page));
+        return eventRepository.findUserEvents(user, page);
+    }
+
+    public Slice<EventCardDTO> findUserEventsSlice(AppUser user, Pageable page) {
+        return eventRepository.findUserEventsSlice(user, page);
+    }
+
+    public CursorPage<EventCardDTO> findUserUpcomingEvents(AppUser user, LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor after = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MAX_VALUE);
+        List<EventCardDTO> events = eventRepository.findUserUpcomingEventsAfter(user, currentDateTime, after.getDateTime(), after.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
+    }
+
+    public CursorPage<EventCardDTO> findUserPastEvents(AppUser user, LocalDateTime currentDateTime, EventCursor cursor, int size) {
+        EventCursor before = cursor != null ? cursor : new EventCursor(currentDateTime, Long.MIN_VALUE);
+        List<EventCardDTO> events = eventRepository.findUserPastEventsBefore(user, currentDateTime, before.getDateTime(), before.getId(), PageRequest.of(0, size + 1));
+        return EventCardDTOMapper.mapToEventCardCursorPage(events, size);
     }
 
     public Page<EventCardDTO> findUserEventsByCity(AppUser user, String city, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findUserEventsByCity(user, city, page));
+        return eventRepository.findUserEventsByCity(user, city, page);
+    }
+
+    public Slice<EventCardDTO> findUserEventsByCitySlice(AppUser user, String city, Pageable page) {
+        return eventRepository.findUserEventsByCitySlice(user, city, page);
     }
 
-    private String getCityNameWithoutPlCharacters(String city) {
-        city = city.toLowerCase();
-        city = city.replace("\\s", "-");
-        city = StringUtils.stripAccents(city);
-        return city;
+    private boolean checkIfUserIsParticipant(Event event, AppUser user) {
+        return user != null && eventRepository.countParticipant(event.getId(), user.getId()) > 0;
     }
 }
@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import pl.dreilt.iteventsapi.event.dto.HomeFeedDTO;
+
+import java.time.LocalDateTime;
+
+public interface HomeFeedService {
+
+    HomeFeedDTO getHomeFeed(LocalDateTime currentDateTime);
+
+    void evictHomeFeed();
+}
@@ -0,0 +1,103 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.HomeFeedDTO;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+public class HomeFeedServiceImpl implements HomeFeedService {
+    private static final int HOME_FEED_SIZE = 10;
+    private static final long MAX_AGE_IN_MINUTES = 1L;
+    private final Logger logger = LoggerFactory.getLogger(HomeFeedServiceImpl.class);
+    private final EventRepository eventRepository;
+    private volatile HomeFeed homeFeed;
+
+    public HomeFeedServiceImpl(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    public HomeFeedDTO getHomeFeed(LocalDateTime currentDateTime) {
+        HomeFeed currentHomeFeed = homeFeed;
+        if (currentHomeFeed == null || !currentDateTime.isBefore(currentHomeFeed.getValidUntil())) {
+            currentHomeFeed = loadHomeFeed(currentDateTime);
+        }
+
+        return currentHomeFeed.getHomeFeedDTO();
+    }
+
+    public void evictHomeFeed() {
+        homeFeed = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    homeFeed = null;
+                }
+            });
+        }
+    }
+
+    private synchronized HomeFeed loadHomeFeed(LocalDateTime currentDateTime) {
+        HomeFeed currentHomeFeed = homeFeed;
+        if (currentHomeFeed != null && currentDateTime.isBefore(currentHomeFeed.getValidUntil())) {
+            return currentHomeFeed;
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, HOME_FEED_SIZE, Sort.by(Sort.Direction.ASC, "dateTime"));
+        List<EventCardDTO> events = eventRepository.findAllUpcomingEvents(currentDateTime, pageRequest).getContent();
+        LocalDateTime validUntil = currentDateTime.plusMinutes(MAX_AGE_IN_MINUTES);
+        if (!events.isEmpty() && events.get(0).getDateTime().isBefore(validUntil)) {
+            validUntil = events.get(0).getDateTime();
+        }
+
+        currentHomeFeed = new HomeFeed(new HomeFeedDTO(events, calculateETag(events)), validUntil);
+        homeFeed = currentHomeFeed;
+        logger.debug("Home feed loaded with " + events.size() + " events");
+        return currentHomeFeed;
+    }
+
+    private String calculateETag(List<EventCardDTO> events) {
+        StringBuilder content = new StringBuilder();
+        for (EventCardDTO event : events) {
+            content.append(event.getId()).append('|')
+                    .append(event.getDate()).append('|')
+                    .append(event.getDayOfWeek()).append('|')
+                    .append(event.getName()).append('|')
+                    .append(event.getCity()).append('|')
+                    .append(event.getEventType()).append('|')
+                    .append(event.getAdmission()).append('\n');
+        }
+
+        return "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static class HomeFeed {
+        private final HomeFeedDTO homeFeedDTO;
+        private final LocalDateTime validUntil;
+
+        HomeFeed(HomeFeedDTO homeFeedDTO, LocalDateTime validUntil) {
+            this.homeFeedDTO = homeFeedDTO;
+            this.validUntil = validUntil;
+        }
+
+        HomeFeedDTO getHomeFeedDTO() {
+            return homeFeedDTO;
+        }
+
+        LocalDateTime getValidUntil() {
+            return validUntil;
+        }
+    }
+}
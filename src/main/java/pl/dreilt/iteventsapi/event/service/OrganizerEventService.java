@@ -2,6 +2,7 @@ package pl.dreilt.iteventsapi.event.service;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.event.dto.*;
 
@@ -15,8 +16,12 @@ public interface OrganizerEventService {
 
     Page<EventCardDTO> findOrganizerEvents(AppUser currentUser, Pageable page);
 
+    Slice<EventCardDTO> findOrganizerEventsSlice(AppUser currentUser, Pageable page);
+
     Page<EventCardDTO> findOrganizerEventsByCity(AppUser currentUser, String city, Pageable page);
 
+    Slice<EventCardDTO> findOrganizerEventsByCitySlice(AppUser currentUser, String city, Pageable page);
+
     EventEditDTO findEventToEdit(AppUser currentUser, Long id);
 
     EventEditDTO updateEvent(AppUser currentUser, Long id, EventEditDTO EventEditDTO);
@@ -1,28 +1,30 @@
 package pl.dreilt.iteventsapi.event.service;
 
-import liquibase.repackaged.org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.event.dto.*;
 import pl.dreilt.iteventsapi.event.exception.EventNotFoundException;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
 import pl.dreilt.iteventsapi.eventimage.model.EventImage;
-import pl.dreilt.iteventsapi.event.mapper.EventCardDTOMapper;
 import pl.dreilt.iteventsapi.event.mapper.EventDTOMapper;
 import pl.dreilt.iteventsapi.event.mapper.EventEditDTOMapper;
-import pl.dreilt.iteventsapi.event.mapper.ParticipantDTOMapper;
 import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.event.search.EventFacetIndex;
+import pl.dreilt.iteventsapi.event.search.EventSearchIndex;
+import pl.dreilt.iteventsapi.event.search.EventSuggestionIndex;
 import pl.dreilt.iteventsapi.eventimage.service.EventImageService;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,16 +33,37 @@ public class OrganizerEventServiceImpl implements OrganizerEventService {
     private final Logger logger = LoggerFactory.getLogger(OrganizerEventServiceImpl.class);
     private final EventRepository eventRepository;
     private final EventImageService eventImageService;
-
-    public OrganizerEventServiceImpl(EventRepository eventRepository, EventImageService eventImageService) {
+    private final EventCountService eventCountService;
+    private final CityCatalogService cityCatalogService;
+    private final HomeFeedService homeFeedService;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventFacetIndex eventFacetIndex;
+    private final EventSuggestionIndex eventSuggestionIndex;
+
+    public OrganizerEventServiceImpl(
+            EventRepository eventRepository,
+            EventImageService eventImageService,
+            EventCountService eventCountService,
+            CityCatalogService cityCatalogService,
+            HomeFeedService homeFeedService,
+            EventSearchIndex eventSearchIndex,
+            EventFacetIndex eventFacetIndex,
+            EventSuggestionIndex eventSuggestionIndex
+    ) {
         this.eventRepository = eventRepository;
         this.eventImageService = eventImageService;
+        this.eventCountService = eventCountService;
+        this.cityCatalogService = cityCatalogService;
+        this.homeFeedService = homeFeedService;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventFacetIndex = eventFacetIndex;
+        this.eventSuggestionIndex = eventSuggestionIndex;
     }
 
     public EventDTO createEvent(AppUser currentUser, CreateEventDTO newEventData) {
         Event event = new Event();
         event.setName(newEventData.getName());
-        event.setEventImage(eventImageService.createDefaultEventImage());
+        event.setEventImage(eventImageService.getDefaultEventImage());
         event.setEventType(newEventData.getEventType());
         event.setDateTime(LocalDateTime.parse(newEventData.getDateTime(), DateTimeFormatter.ISO_LOCAL_DATE_TIME));
         event.setLanguage(newEventData.getLanguage());
@@ -51,32 +74,37 @@ public class OrganizerEventServiceImpl implements OrganizerEventService {
         event.setOrganizer(currentUser);
         event.setDescription(newEventData.getDescription());
         Event createdEvent = eventRepository.save(event);
+        runAfterCommit(eventCountService::evictEventCounts);
+        addEventToCityCatalogAfterCommit(createdEvent);
+        homeFeedService.evictHomeFeed();
+        updateEventIndexesAfterCommit(createdEvent);
         logger.info("Event [ID: " + createdEvent.getId() + "] created by user [ID: " + currentUser.getId() + "]");
-        return EventDTOMapper.mapToEventDTO(createdEvent, currentUser);
+        return EventDTOMapper.mapToEventDTO(createdEvent, false);
     }
 
     public List<CityDTO> findAllCities() {
-        List<String> cities = eventRepository.findAllCities();
-        List<CityDTO> cityDTOs = new ArrayList<>();
-        for (String city : cities) {
-            CityDTO cityDTO = new CityDTO();
-            cityDTO.setNameWithoutPlCharacters(getCityNameWithoutPlCharacters(city));
-            cityDTO.setDisplayName(city);
-            cityDTOs.add(cityDTO);
-        }
-        return cityDTOs;
+        return cityCatalogService.findAllCities();
     }
 
     public Page<EventCardDTO> findOrganizerEvents(AppUser currentUser, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findOrganizerEvents(currentUser, page));
+        return eventRepository.findOrganizerEvents(currentUser, page);
+    }
+
+    public Slice<EventCardDTO> findOrganizerEventsSlice(AppUser currentUser, Pageable page) {
+        return eventRepository.findOrganizerEventsSlice(currentUser, page);
     }
 
     public Page<EventCardDTO> findOrganizerEventsByCity(AppUser currentUser, String city, Pageable page) {
-        return EventCardDTOMapper.mapToEventCardDTOs(eventRepository.findOrganizerEventsByCity(currentUser, city, page));
+        return eventRepository.findOrganizerEventsByCity(currentUser, city, page);
+    }
+
+    public Slice<EventCardDTO> findOrganizerEventsByCitySlice(AppUser currentUser, String city, Pageable page) {
+        return eventRepository.findOrganizerEventsByCitySlice(currentUser, city, page);
     }
 
     public EventEditDTO findEventToEdit(AppUser currentUser, Long id) {
-        return EventEditDTOMapper.mapToEventEditDTO(returnEventIfCurrentUserIsOrganizer(currentUser, id));
+        Event event = returnEventIfCurrentUserIsOrganizer(currentUser, id);
+        return EventEditDTOMapper.mapToEventEditDTO(event, eventImageService.readEventImage(event.getEventImage()));
     }
 
     @Transactional
@@ -84,11 +112,21 @@ public class OrganizerEventServiceImpl implements OrganizerEventService {
         Optional<Event> eventOpt = eventRepository.findById(id);
         if (eventOpt.isPresent()) {
             Event event = eventOpt.get();
+            LocalDateTime previousDateTime = event.getDateTime();
+            String previousCity = event.getCity();
             if (setEventFields(eventEditData, event)) {
+                if (!previousDateTime.equals(event.getDateTime()) || !previousCity.equals(event.getCity())) {
+                    runAfterCommit(eventCountService::evictEventCounts);
+                }
+                if (!previousCity.equals(event.getCity())) {
+                    moveEventInCityCatalogAfterCommit(previousCity, event);
+                }
+                homeFeedService.evictHomeFeed();
+                updateEventIndexesAfterCommit(event);
                 logger.info("Event [ID: " + event.getId() + "] updated by user [ID: " + currentUser.getId() + "]");
             }
 
-            return EventEditDTOMapper.mapToEventEditDTO(event);
+            return EventEditDTOMapper.mapToEventEditDTO(event, eventImageService.readEventImage(event.getEventImage()));
         }
 
         throw new EventNotFoundException("Event with ID " + id + " not found");
@@ -96,29 +134,17 @@ public class OrganizerEventServiceImpl implements OrganizerEventService {
 
     public Page<ParticipantDTO> findEventParticipants(AppUser currentUser, Long id, Pageable page) {
         Event event = returnEventIfCurrentUserIsOrganizer(currentUser, id);
-        return ParticipantDTOMapper.mapToParticipantDTOs(event.getParticipants(), page);
+        return eventRepository.findEventParticipants(event.getId(), page);
     }
 
     @Transactional
     public Page<ParticipantDTO> removeParticipant(AppUser currentUser, Long eventId, Long participantId, Pageable page) {
         Event event = returnEventIfCurrentUserIsOrganizer(currentUser, eventId);
-        Optional<AppUser> userOpt = event.getParticipants()
-                .stream()
-                .filter(participant -> participant.getId().equals(participantId))
-                .findFirst();
-        if (userOpt.isPresent()) {
-            AppUser user = userOpt.get();
-            event.removeParticipant(user);
-            logger.info("User [ID: " + user.getId() + "] removed from event [ID: " + event.getId() + "] participants list by user [ID: " + currentUser.getId() + "]");
+        if (eventRepository.removeParticipant(event.getId(), participantId) > 0) {
+            logger.info("User [ID: " + participantId + "] removed from event [ID: " + event.getId() + "] participants list by user [ID: " + currentUser.getId() + "]");
         }
-        return ParticipantDTOMapper.mapToParticipantDTOs(event.getParticipants(), page);
-    }
 
-    private String getCityNameWithoutPlCharacters(String city) {
-        city = city.toLowerCase();
-        city = city.replace("\\s", "-");
-        city = StringUtils.stripAccents(city);
-        return city;
+        return eventRepository.findEventParticipants(event.getId(), page);
     }
 
     private Event returnEventIfCurrentUserIsOrganizer(AppUser currentUser, Long id) {
@@ -135,6 +161,42 @@ public class OrganizerEventServiceImpl implements OrganizerEventService {
         throw new EventNotFoundException("Event with ID " + id + " not found");
     }
 
+    private void addEventToCityCatalogAfterCommit(Event event) {
+        String city = event.getCity();
+        runAfterCommit(() -> cityCatalogService.addEvent(city));
+    }
+
+    private void moveEventInCityCatalogAfterCommit(String previousCity, Event event) {
+        String city = event.getCity();
+        runAfterCommit(() -> cityCatalogService.moveEvent(previousCity, city));
+    }
+
+    private void updateEventIndexesAfterCommit(Event event) {
+        Long id = event.getId();
+        String name = event.getName();
+        String description = event.getDescription();
+        String city = event.getCity();
+        LocalDateTime dateTime = event.getDateTime();
+        runAfterCommit(() -> {
+            eventSearchIndex.index(id, name, description);
+            eventFacetIndex.evictEventFacets();
+            eventSuggestionIndex.index(id, name, city, dateTime);
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     private boolean setEventFields(EventEditDTO source, Event target) {
         boolean isUpdated = false;
 
@@ -3,21 +3,34 @@ package pl.dreilt.iteventsapi.eventimage.model;
 import lombok.Getter;
 import lombok.Setter;
 import pl.dreilt.iteventsapi.core.BaseEntity;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.storage.ImageFile;
+import pl.dreilt.iteventsapi.image.storage.ImageFileListener;
 
 import javax.persistence.*;
 
 @Entity
+@EntityListeners(ImageFileListener.class)
 @Getter
 @Setter
-public class EventImage extends BaseEntity {
+public class EventImage extends BaseEntity implements ImageFile {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String fileName;
     private String fileType;
-    @Column(columnDefinition = "BLOB")
+    private String fileHash;
+    private Long fileSize;
+    private boolean defaultImage;
+    @Transient
     private byte[] fileData;
 
+    public void setFileData(byte[] fileData) {
+        this.fileData = fileData;
+        this.fileHash = ContentHash.sha256(fileData);
+        this.fileSize = fileData != null ? (long) fileData.length : null;
+    }
+
     public static EventImageBuilder builder() {
         return new EventImageBuilder();
     }
@@ -1,7 +1,17 @@
 package pl.dreilt.iteventsapi.eventimage.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import pl.dreilt.iteventsapi.eventimage.model.EventImage;
+import pl.dreilt.iteventsapi.image.dto.ImageDTO;
+
+import java.util.Optional;
 
 public interface EventImageRepository extends JpaRepository<EventImage, Long> {
+
+    @Query("SELECT new pl.dreilt.iteventsapi.image.dto.ImageDTO(i.fileType, i.fileHash, i.fileSize) FROM EventImage i WHERE i.id = :id")
+    Optional<ImageDTO> findImageById(@Param("id") Long id);
+
+    Optional<EventImage> findFirstByDefaultImageTrueOrderByIdAsc();
 }
@@ -8,7 +8,9 @@ import java.util.Optional;
 
 public interface EventImageService {
 
-    EventImage createDefaultEventImage();
+    EventImage getDefaultEventImage();
+
+    byte[] readEventImage(EventImage eventImage);
 
     Optional<EventImage> updateEventImage(Event event, MultipartFile newEventImage);
 }
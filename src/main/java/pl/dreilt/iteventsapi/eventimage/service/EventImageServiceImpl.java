@@ -2,49 +2,111 @@ package pl.dreilt.iteventsapi.eventimage.service;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import pl.dreilt.iteventsapi.eventimage.model.EventImage;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.eventimage.exception.DefaultEventImageNotFoundException;
 import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.service.ImageUploadService;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class EventImageServiceImpl implements EventImageService {
+    private static final Set<ImageVariant> IMAGE_VARIANTS = EnumSet.of(ImageVariant.THUMBNAIL, ImageVariant.CARD);
+    private static final String DEFAULT_IMAGE_FILE_NAME = "default_event_image.png";
     private final EventImageRepository eventImageRepository;
+    private final ImageStorage imageStorage;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Long defaultEventImageId;
+    private volatile byte[] defaultEventImageData;
 
-    public EventImageServiceImpl(EventImageRepository eventImageRepository) {
+    public EventImageServiceImpl(EventImageRepository eventImageRepository,
+                                 ImageStorage imageStorage,
+                                 ImageUploadService imageUploadService,
+                                 PlatformTransactionManager transactionManager) {
         this.eventImageRepository = eventImageRepository;
+        this.imageStorage = imageStorage;
+        this.imageUploadService = imageUploadService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    public EventImage createDefaultEventImage() {
-        ClassPathResource resource = new ClassPathResource("static/images/default_event_image.png");
-        try (InputStream defaultEventImage = resource.getInputStream()) {
-            EventImage eventImage = new EventImage();
-            eventImage.setFileName(resource.getFilename());
-            eventImage.setFileType("image/png");
-            eventImage.setFileData(defaultEventImage.readAllBytes());
-            return eventImageRepository.save(eventImage);
-        } catch (IOException e) {
-            throw new DefaultEventImageNotFoundException("File " + resource.getPath() + " not found");
+    public EventImage getDefaultEventImage() {
+        Long id = defaultEventImageId;
+        if (id == null) {
+            id = loadDefaultEventImageId();
         }
+        return eventImageRepository.getReferenceById(id);
+    }
+
+    private synchronized Long loadDefaultEventImageId() {
+        if (defaultEventImageId == null) {
+            defaultEventImageId = transactionTemplate.execute(status -> eventImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()
+                    .map(EventImage::getId)
+                    .orElseGet(() -> eventImageRepository.save(createDefaultEventImage()).getId()));
+        }
+        return defaultEventImageId;
+    }
+
+    private EventImage createDefaultEventImage() {
+        EventImage eventImage = new EventImage();
+        eventImage.setFileName(DEFAULT_IMAGE_FILE_NAME);
+        eventImage.setFileType("image/png");
+        eventImage.setFileData(getDefaultEventImageData());
+        eventImage.setDefaultImage(true);
+        return eventImage;
+    }
+
+    private byte[] getDefaultEventImageData() {
+        byte[] fileData = defaultEventImageData;
+        if (fileData == null) {
+            ClassPathResource resource = new ClassPathResource("static/images/" + DEFAULT_IMAGE_FILE_NAME);
+            try (InputStream defaultEventImage = resource.getInputStream()) {
+                fileData = defaultEventImage.readAllBytes();
+                defaultEventImageData = fileData;
+            } catch (IOException e) {
+                throw new DefaultEventImageNotFoundException("File " + resource.getPath() + " not found");
+            }
+        }
+        return fileData;
+    }
+
+    public byte[] readEventImage(EventImage eventImage) {
+        if (eventImage.getFileData() != null) {
+            return eventImage.getFileData();
+        }
+        if (eventImage.isDefaultImage()) {
+            return getDefaultEventImageData();
+        }
+
+        return imageStorage.read(eventImage.getFileHash());
     }
 
     public Optional<EventImage> updateEventImage(Event event, MultipartFile newEventImage) {
         EventImage currentEventImage = event.getEventImage();
-        try (InputStream is = newEventImage.getInputStream()) {
-            if (currentEventImage.getFileData() != is.readAllBytes()) {
-                currentEventImage.setFileName(newEventImage.getOriginalFilename());
-                currentEventImage.setFileType(newEventImage.getContentType());
-                currentEventImage.setFileData(newEventImage.getBytes());
-                return Optional.of(currentEventImage);
-            }
+        StoredImage storedImage = imageUploadService.upload(newEventImage, IMAGE_VARIANTS);
+        if (storedImage.getFileHash().equals(currentEventImage.getFileHash())) {
             return Optional.empty();
-        } catch (IOException e) {
-            throw new DefaultEventImageNotFoundException("File not found");
         }
+
+        EventImage eventImage = currentEventImage.isDefaultImage() ? new EventImage() : currentEventImage;
+        eventImage.setFileName(newEventImage.getOriginalFilename());
+        eventImage.setFileType(newEventImage.getContentType());
+        eventImage.setFileData(null);
+        eventImage.setFileHash(storedImage.getFileHash());
+        eventImage.setFileSize(storedImage.getFileSize());
+        return Optional.of(eventImage != currentEventImage ? eventImageRepository.save(eventImage) : eventImage);
     }
 }
@@ -0,0 +1,130 @@
+package pl.dreilt.iteventsapi.image.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import pl.dreilt.iteventsapi.image.dto.ImageDTO;
+import pl.dreilt.iteventsapi.image.service.ImageService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/v1")
+public class ImageController {
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+    private final ImageService imageService;
+
+    public ImageController(ImageService imageService) {
+        this.imageService = imageService;
+    }
+
+    @GetMapping("/images/events/{id}")
+    public void getEventImage(@PathVariable Long id,
+                              @RequestParam(name = "v", required = false) String version,
+                              @RequestParam(name = "size", required = false) String size,
+                              HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        writeImage(imageService.findEventImage(id), version, size, request, response);
+    }
+
+    @GetMapping("/images/profiles/{id}")
+    public void getProfileImage(@PathVariable Long id,
+                                @RequestParam(name = "v", required = false) String version,
+                                @RequestParam(name = "size", required = false) String size,
+                                HttpServletRequest request,
+                                HttpServletResponse response) throws IOException {
+        writeImage(imageService.findProfileImage(id), version, size, request, response);
+    }
+
+    private void writeImage(ImageDTO original, String version, String size, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ImageDTO image = size != null ? imageService.findImageVariant(original, size) : original;
+        boolean immutable = original.getFileHash().equals(version) && (size == null || image != original);
+        String eTag = "\"" + image.getFileHash() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(immutable));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
+
+        long fileSize = image.getFileSize();
+        long start = 0;
+        long end = fileSize - 1;
+        Optional<HttpRange> range;
+        try {
+            range = findRange(request, eTag);
+            if (range.isPresent()) {
+                start = range.get().getRangeStart(fileSize);
+                end = range.get().getRangeEnd(fileSize);
+                if (start >= fileSize || start > end) {
+                    throw new IllegalArgumentException("Range " + start + "-" + end + " is not satisfiable");
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+
+        if (range.isPresent()) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+        }
+        response.setContentType(toMediaType(image.getFileType()).toString());
+        response.setContentLengthLong(end - start + 1);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        Optional<Path> path = imageService.findImagePath(image);
+        if (path.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, path.get().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, end + 1);
+            return;
+        }
+
+        imageService.transferImage(image, start, end - start + 1, Channels.newChannel(response.getOutputStream()));
+    }
+
+    private Optional<HttpRange> findRange(HttpServletRequest request, String eTag) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRangeHeader = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader == null || (ifRangeHeader != null && !ifRangeHeader.equals(eTag))) {
+            return Optional.empty();
+        }
+
+        List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+        return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+    }
+
+    private String cacheControl(boolean immutable) {
+        if (immutable) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue() + ", immutable";
+        }
+
+        return CacheControl.noCache().getHeaderValue();
+    }
+
+    private MediaType toMediaType(String fileType) {
+        try {
+            return MediaType.parseMediaType(fileType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.image.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImageDTO {
+    private String fileType;
+    private String fileHash;
+    private Long fileSize;
+}
@@ -0,0 +1,39 @@
+package pl.dreilt.iteventsapi.image.enumeration;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 160, 90),
+    CARD("card", 320, 180),
+    AVATAR("avatar", 100, 100),
+    AVATAR_SMALL("avatar_small", 40, 40);
+
+    private final String parameterName;
+    private final int width;
+    private final int height;
+
+    ImageVariant(String parameterName, int width, int height) {
+        this.parameterName = parameterName;
+        this.width = width;
+        this.height = height;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public static Optional<ImageVariant> fromParameterName(String parameterName) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.parameterName.equals(parameterName))
+                .findFirst();
+    }
+}
@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.image.exception;
+
+public class ImageNotFoundException extends RuntimeException {
+
+    public ImageNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.image.exception;
+
+public class ImageStorageException extends RuntimeException {
+
+    public ImageStorageException(String message) {
+        super(message);
+    }
+}
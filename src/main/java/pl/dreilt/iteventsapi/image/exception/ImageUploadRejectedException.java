@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.image.exception;
+
+public class ImageUploadRejectedException extends RuntimeException {
+
+    public ImageUploadRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package pl.dreilt.iteventsapi.image.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pl.dreilt.iteventsapi.core.AbstractExceptionHandler;
+import pl.dreilt.iteventsapi.image.exception.ImageStorageException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestControllerAdvice
+public class ImageStorageExceptionHandler extends AbstractExceptionHandler {
+    private static final String MESSAGE_CODE = "exception.ImageStorageException.message";
+
+    public ImageStorageExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+        super(messageSource, MESSAGE_CODE, objectMapper);
+    }
+
+    @ExceptionHandler(ImageStorageException.class)
+    public void handle(HttpServletRequest request, HttpServletResponse response, Exception ex) throws IOException {
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        writeErrorAsJson(request, response, ex);
+    }
+}
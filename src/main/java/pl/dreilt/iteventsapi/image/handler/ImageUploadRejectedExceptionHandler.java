@@ -0,0 +1,30 @@
+package pl.dreilt.iteventsapi.image.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import pl.dreilt.iteventsapi.core.AbstractExceptionHandler;
+import pl.dreilt.iteventsapi.image.exception.ImageUploadRejectedException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestControllerAdvice
+public class ImageUploadRejectedExceptionHandler extends AbstractExceptionHandler {
+    private static final String MESSAGE_CODE = "exception.ImageUploadRejectedException.message";
+
+    public ImageUploadRejectedExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+        super(messageSource, MESSAGE_CODE, objectMapper);
+    }
+
+    @ExceptionHandler(ImageUploadRejectedException.class)
+    public void handle(HttpServletRequest request, HttpServletResponse response, Exception ex) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        writeErrorAsJson(request, response, ex);
+    }
+}
@@ -0,0 +1,28 @@
+package pl.dreilt.iteventsapi.image.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import pl.dreilt.iteventsapi.core.AbstractExceptionHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@RestControllerAdvice
+public class MaxUploadSizeExceededExceptionHandler extends AbstractExceptionHandler {
+    private static final String MESSAGE_CODE = "exception.MaxUploadSizeExceededException.message";
+
+    public MaxUploadSizeExceededExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+        super(messageSource, MESSAGE_CODE, objectMapper);
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public void handle(HttpServletRequest request, HttpServletResponse response, Exception ex) throws IOException {
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        writeErrorAsJson(request, response, ex);
+    }
+}
@@ -0,0 +1,22 @@
+package pl.dreilt.iteventsapi.image.mapper;
+
+import pl.dreilt.iteventsapi.eventimage.model.EventImage;
+import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
+
+public class ImageUrlMapper {
+
+    private ImageUrlMapper() {
+    }
+
+    public static String mapToEventImageUrl(EventImage eventImage) {
+        return mapToImageUrl("/api/v1/images/events/", eventImage.getId(), eventImage.getFileHash());
+    }
+
+    public static String mapToProfileImageUrl(ProfileImage profileImage) {
+        return mapToImageUrl("/api/v1/images/profiles/", profileImage.getId(), profileImage.getFileHash());
+    }
+
+    private static String mapToImageUrl(String path, Long id, String fileHash) {
+        return fileHash != null ? path + id + "?v=" + fileHash : path + id;
+    }
+}
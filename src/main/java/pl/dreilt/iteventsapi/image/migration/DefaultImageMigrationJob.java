@@ -0,0 +1,87 @@
+package pl.dreilt.iteventsapi.image.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.eventimage.service.EventImageService;
+import pl.dreilt.iteventsapi.profileimage.service.ProfileImageService;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class DefaultImageMigrationJob {
+    private final Logger logger = LoggerFactory.getLogger(DefaultImageMigrationJob.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventImageService eventImageService;
+    private final ProfileImageService profileImageService;
+    private final int batchSize;
+
+    public DefaultImageMigrationJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            EventImageService eventImageService,
+            ProfileImageService profileImageService,
+            @Value("${application.images.migration.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventImageService = eventImageService;
+        this.profileImageService = profileImageService;
+        this.batchSize = batchSize;
+    }
+
+    @Order(2)
+    @EventListener(ApplicationReadyEvent.class)
+    public long collapseAll() {
+        Long defaultEventImageId = transactionTemplate.execute(status -> eventImageService.getDefaultEventImage().getId());
+        Long defaultProfileImageId = transactionTemplate.execute(status -> profileImageService.getDefaultProfileImage().getId());
+        return collapse("event_image", "event_event_image", "event_image_id", defaultEventImageId)
+                + collapse("profile_image", "app_user_profile_image", "profile_image_id", defaultProfileImageId);
+    }
+
+    private long collapse(String table, String joinTable, String joinColumn, Long defaultImageId) {
+        String defaultImageHash = jdbcTemplate.queryForObject("SELECT file_hash FROM " + table + " WHERE id = ?", String.class, defaultImageId);
+        if (defaultImageHash == null) {
+            return 0;
+        }
+
+        long collapsed = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> collapseBatch(table, joinTable, joinColumn, defaultImageId, defaultImageHash));
+            collapsed += batch;
+        } while (batch == batchSize);
+
+        if (collapsed > 0) {
+            logger.info("Collapsed " + collapsed + " duplicates of the default image [ID: " + defaultImageId + "] in table " + table);
+        }
+        return collapsed;
+    }
+
+    private int collapseBatch(String table, String joinTable, String joinColumn, Long defaultImageId, String defaultImageHash) {
+        List<Long> duplicateIds = jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE file_hash = ? AND id <> ? ORDER BY id LIMIT ?",
+                Long.class, defaultImageHash, defaultImageId, batchSize);
+        if (duplicateIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> ids = duplicateIds.stream()
+                .map(id -> new Object[]{id})
+                .collect(Collectors.toList());
+        List<Object[]> joinUpdates = duplicateIds.stream()
+                .map(id -> new Object[]{defaultImageId, id})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("UPDATE " + joinTable + " SET " + joinColumn + " = ? WHERE " + joinColumn + " = ?", joinUpdates);
+        jdbcTemplate.batchUpdate("DELETE FROM " + table + " WHERE id = ?", ids);
+        return duplicateIds.size();
+    }
+}
@@ -0,0 +1,76 @@
+package pl.dreilt.iteventsapi.image.migration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ImageBlobMigrationJob {
+    private static final List<String> IMAGE_TABLES = List.of("event_image", "profile_image");
+    private final Logger logger = LoggerFactory.getLogger(ImageBlobMigrationJob.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStorage imageStorage;
+    private final int batchSize;
+
+    public ImageBlobMigrationJob(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ImageStorage imageStorage,
+            @Value("${application.images.migration.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageStorage = imageStorage;
+        this.batchSize = batchSize;
+    }
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public long migrateAll() {
+        long migrated = 0;
+        for (String table : IMAGE_TABLES) {
+            migrated += migrate(table);
+        }
+        return migrated;
+    }
+
+    private long migrate(String table) {
+        long migrated = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> migrateBatch(table));
+            migrated += batch;
+        } while (batch == batchSize);
+
+        if (migrated > 0) {
+            logger.info("Moved " + migrated + " images from table " + table + " to the image storage");
+        }
+        return migrated;
+    }
+
+    private int migrateBatch(String table) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, file_data FROM " + table + " WHERE file_data IS NOT NULL ORDER BY id LIMIT ?",
+                rs -> {
+                    byte[] fileData = rs.getBytes("file_data");
+                    String fileHash = ContentHash.sha256(fileData);
+                    imageStorage.store(fileHash, fileData);
+                    updates.add(new Object[]{fileHash, (long) fileData.length, rs.getLong("id")});
+                },
+                batchSize);
+        jdbcTemplate.batchUpdate("UPDATE " + table + " SET file_hash = ?, file_size = ?, file_data = NULL WHERE id = ?", updates);
+        return updates.size();
+    }
+}
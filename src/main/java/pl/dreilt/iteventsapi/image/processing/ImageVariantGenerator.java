@@ -0,0 +1,64 @@
+package pl.dreilt.iteventsapi.image.processing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+public class ImageVariantGenerator {
+    private final Logger logger = LoggerFactory.getLogger(ImageVariantGenerator.class);
+    private final ImageStorage imageStorage;
+    private final Executor imageProcessingExecutor;
+    private final Set<String> pendingVariantHashes = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantGenerator(ImageStorage imageStorage,
+                                 @Qualifier("imageProcessingExecutor") Executor imageProcessingExecutor) {
+        this.imageStorage = imageStorage;
+        this.imageProcessingExecutor = imageProcessingExecutor;
+    }
+
+    public static String variantHash(String fileHash, ImageVariant variant) {
+        return ContentHash.sha256((fileHash + ":" + variant.name()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void generateAsync(String fileHash, String fileType, Collection<ImageVariant> variants) {
+        for (ImageVariant variant : variants) {
+            String variantHash = variantHash(fileHash, variant);
+            if (imageStorage.exists(variantHash) || !pendingVariantHashes.add(variantHash)) {
+                continue;
+            }
+
+            try {
+                imageProcessingExecutor.execute(() -> generate(fileHash, fileType, variant, variantHash));
+            } catch (RejectedExecutionException e) {
+                pendingVariantHashes.remove(variantHash);
+                logger.warn("Image [HASH: " + fileHash + "] variant " + variant + " skipped, processing queue is full");
+            }
+        }
+    }
+
+    private void generate(String fileHash, String fileType, ImageVariant variant, String variantHash) {
+        try {
+            byte[] variantData = ImageResizer.resize(new ByteArrayInputStream(imageStorage.read(fileHash)), fileType,
+                    variant.getWidth(), variant.getHeight());
+            imageStorage.store(variantHash, variantData);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Image [HASH: " + fileHash + "] variant " + variant + " could not be generated: " + e.getMessage());
+        } finally {
+            pendingVariantHashes.remove(variantHash);
+        }
+    }
+}
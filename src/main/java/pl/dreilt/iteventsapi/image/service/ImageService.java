@@ -0,0 +1,20 @@
+package pl.dreilt.iteventsapi.image.service;
+
+import pl.dreilt.iteventsapi.image.dto.ImageDTO;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ImageService {
+
+    ImageDTO findEventImage(Long id);
+
+    ImageDTO findProfileImage(Long id);
+
+    ImageDTO findImageVariant(ImageDTO image, String size);
+
+    Optional<Path> findImagePath(ImageDTO image);
+
+    void transferImage(ImageDTO image, long position, long count, WritableByteChannel target);
+}
@@ -0,0 +1,66 @@
+package pl.dreilt.iteventsapi.image.service;
+
+import org.springframework.stereotype.Service;
+import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.image.dto.ImageDTO;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.exception.ImageNotFoundException;
+import pl.dreilt.iteventsapi.image.processing.ImageVariantGenerator;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class ImageServiceImpl implements ImageService {
+    private final EventImageRepository eventImageRepository;
+    private final ProfileImageRepository profileImageRepository;
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    public ImageServiceImpl(
+            EventImageRepository eventImageRepository,
+            ProfileImageRepository profileImageRepository,
+            ImageStorage imageStorage,
+            ImageVariantGenerator imageVariantGenerator) {
+        this.eventImageRepository = eventImageRepository;
+        this.profileImageRepository = profileImageRepository;
+        this.imageStorage = imageStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+    }
+
+    public ImageDTO findEventImage(Long id) {
+        return eventImageRepository.findImageById(id)
+                .filter(image -> image.getFileHash() != null)
+                .orElseThrow(() -> new ImageNotFoundException("Event image with ID " + id + " not found"));
+    }
+
+    public ImageDTO findProfileImage(Long id) {
+        return profileImageRepository.findImageById(id)
+                .filter(image -> image.getFileHash() != null)
+                .orElseThrow(() -> new ImageNotFoundException("Profile image with ID " + id + " not found"));
+    }
+
+    public ImageDTO findImageVariant(ImageDTO image, String size) {
+        ImageVariant variant = ImageVariant.fromParameterName(size)
+                .orElseThrow(() -> new ImageNotFoundException("Image size " + size + " not supported"));
+        String variantHash = ImageVariantGenerator.variantHash(image.getFileHash(), variant);
+        if (imageStorage.exists(variantHash)) {
+            return new ImageDTO(image.getFileType(), variantHash, imageStorage.size(variantHash));
+        }
+
+        imageVariantGenerator.generateAsync(image.getFileHash(), image.getFileType(), Set.of(variant));
+        return image;
+    }
+
+    public Optional<Path> findImagePath(ImageDTO image) {
+        return imageStorage.findLocalPath(image.getFileHash());
+    }
+
+    public void transferImage(ImageDTO image, long position, long count, WritableByteChannel target) {
+        imageStorage.transferTo(image.getFileHash(), position, count, target);
+    }
+}
@@ -0,0 +1,12 @@
+package pl.dreilt.iteventsapi.image.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
+
+import java.util.Set;
+
+public interface ImageUploadService {
+
+    StoredImage upload(MultipartFile file, Set<ImageVariant> variants);
+}
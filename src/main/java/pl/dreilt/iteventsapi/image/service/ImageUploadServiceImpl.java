@@ -0,0 +1,60 @@
+package pl.dreilt.iteventsapi.image.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.exception.ImageStorageException;
+import pl.dreilt.iteventsapi.image.exception.ImageUploadRejectedException;
+import pl.dreilt.iteventsapi.image.processing.ImageVariantGenerator;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class ImageUploadServiceImpl implements ImageUploadService {
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final Semaphore uploadPermits;
+    private final long acquireTimeoutMillis;
+
+    public ImageUploadServiceImpl(
+            ImageStorage imageStorage,
+            ImageVariantGenerator imageVariantGenerator,
+            @Value("${application.images.upload.max-concurrent}") int maxConcurrentUploads,
+            @Value("${application.images.upload.acquire-timeout-millis}") long acquireTimeoutMillis) {
+        this.imageStorage = imageStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.uploadPermits = new Semaphore(maxConcurrentUploads, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public StoredImage upload(MultipartFile file, Set<ImageVariant> variants) {
+        acquirePermit();
+        try (InputStream inputStream = file.getInputStream()) {
+            StoredImage storedImage = imageStorage.store(inputStream);
+            imageVariantGenerator.generateAsync(storedImage.getFileHash(), file.getContentType(), variants);
+            return storedImage;
+        } catch (IOException e) {
+            throw new ImageStorageException("Image " + file.getOriginalFilename() + " could not be read");
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!uploadPermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ImageUploadRejectedException("Too many concurrent image uploads");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageUploadRejectedException("Image upload was interrupted");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.exception.ImageStorageException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Component
+public class FileSystemImageStorage implements ImageStorage {
+    private static final Pattern FILE_HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private final Logger logger = LoggerFactory.getLogger(FileSystemImageStorage.class);
+    private final Path rootDirectory;
+
+    public FileSystemImageStorage(@Value("${application.images.storage.directory}") String rootDirectory) {
+        this.rootDirectory = Paths.get(rootDirectory).toAbsolutePath().normalize();
+    }
+
+    public void store(String fileHash, byte[] fileData) {
+        Path file = resolve(fileHash);
+        if (Files.exists(file)) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = Files.createTempFile(file.getParent(), fileHash, ".tmp");
+            try {
+                Files.write(tempFile, fileData);
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+                logger.info("Image [HASH: " + fileHash + "] stored");
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (FileAlreadyExistsException e) {
+            logger.debug("Image [HASH: " + fileHash + "] already stored");
+        } catch (IOException e) {
+            throw new ImageStorageException("Image " + fileHash + " could not be stored");
+        }
+    }
+
+    public StoredImage store(InputStream inputStream) {
+        try {
+            Files.createDirectories(rootDirectory);
+            Path tempFile = Files.createTempFile(rootDirectory, "upload", ".tmp");
+            try {
+                MessageDigest digest = ContentHash.newSha256Digest();
+                long fileSize;
+                try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, digest)) {
+                    fileSize = Files.copy(digestInputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+                String fileHash = ContentHash.toHex(digest.digest());
+                Path file = resolve(fileHash);
+                if (!Files.exists(file)) {
+                    Files.createDirectories(file.getParent());
+                    moveToFile(tempFile, file);
+                }
+                return new StoredImage(fileHash, fileSize);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new ImageStorageException("Image could not be stored");
+        }
+    }
+
+    private void moveToFile(Path tempFile, Path file) throws IOException {
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Image [HASH: " + file.getFileName() + "] stored");
+        } catch (FileAlreadyExistsException e) {
+            logger.debug("Image [HASH: " + file.getFileName() + "] already stored");
+        }
+    }
+
+    public byte[] read(String fileHash) {
+        try {
+            return Files.readAllBytes(resolve(fileHash));
+        } catch (IOException e) {
+            throw new ImageStorageException("Image " + fileHash + " could not be read");
+        }
+    }
+
+    public boolean exists(String fileHash) {
+        return Files.exists(resolve(fileHash));
+    }
+
+    public long size(String fileHash) {
+        try {
+            return Files.size(resolve(fileHash));
+        } catch (IOException e) {
+            throw new ImageStorageException("Image " + fileHash + " could not be read");
+        }
+    }
+
+    public long transferTo(String fileHash, long position, long count, WritableByteChannel target) {
+        try (FileChannel fileChannel = FileChannel.open(resolve(fileHash), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long bytes = fileChannel.transferTo(position + transferred, count - transferred, target);
+                if (bytes <= 0) {
+                    break;
+                }
+                transferred += bytes;
+            }
+            return transferred;
+        } catch (IOException e) {
+            throw new ImageStorageException("Image " + fileHash + " could not be read");
+        }
+    }
+
+    public Optional<Path> findLocalPath(String fileHash) {
+        Path file = resolve(fileHash);
+        return Files.exists(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private Path resolve(String fileHash) {
+        if (fileHash == null || !FILE_HASH_PATTERN.matcher(fileHash).matches()) {
+            throw new ImageStorageException("Invalid image hash " + fileHash);
+        }
+
+        return rootDirectory
+                .resolve(fileHash.substring(0, 2))
+                .resolve(fileHash.substring(2, 4))
+                .resolve(fileHash);
+    }
+}
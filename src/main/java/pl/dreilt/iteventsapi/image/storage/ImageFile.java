@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+public interface ImageFile {
+
+    String getFileHash();
+
+    byte[] getFileData();
+}
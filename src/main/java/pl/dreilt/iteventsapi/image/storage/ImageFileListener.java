@@ -0,0 +1,24 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+
+@Component
+public class ImageFileListener {
+    private final ImageStorage imageStorage;
+
+    public ImageFileListener(ImageStorage imageStorage) {
+        this.imageStorage = imageStorage;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void storeFileData(Object entity) {
+        ImageFile imageFile = (ImageFile) entity;
+        if (imageFile.getFileData() != null) {
+            imageStorage.store(imageFile.getFileHash(), imageFile.getFileData());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ImageStorage {
+
+    void store(String fileHash, byte[] fileData);
+
+    StoredImage store(InputStream inputStream);
+
+    byte[] read(String fileHash);
+
+    boolean exists(String fileHash);
+
+    long size(String fileHash);
+
+    long transferTo(String fileHash, long position, long count, WritableByteChannel target);
+
+    Optional<Path> findLocalPath(String fileHash);
+}
@@ -0,0 +1,11 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private String fileHash;
+    private long fileSize;
+}
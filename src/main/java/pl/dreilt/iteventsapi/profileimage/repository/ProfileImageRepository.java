@@ -1,7 +1,17 @@
 package pl.dreilt.iteventsapi.profileimage.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
+import pl.dreilt.iteventsapi.image.dto.ImageDTO;
+
+import java.util.Optional;
 
 public interface ProfileImageRepository extends JpaRepository<ProfileImage, Long> {
+
+    @Query("SELECT new pl.dreilt.iteventsapi.image.dto.ImageDTO(i.fileType, i.fileHash, i.fileSize) FROM ProfileImage i WHERE i.id = :id")
+    Optional<ImageDTO> findImageById(@Param("id") Long id);
+
+    Optional<ProfileImage> findFirstByDefaultImageTrueOrderByIdAsc();
 }
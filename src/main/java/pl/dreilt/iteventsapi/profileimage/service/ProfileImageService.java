@@ -8,7 +8,9 @@ import java.util.Optional;
 
 public interface ProfileImageService {
 
-    ProfileImage createDefaultProfileImage();
+    ProfileImage getDefaultProfileImage();
+
+    byte[] readProfileImage(ProfileImage profileImage);
 
     Optional<ProfileImage> updateProfileImage(AppUser user, MultipartFile newProfileImage);
 }
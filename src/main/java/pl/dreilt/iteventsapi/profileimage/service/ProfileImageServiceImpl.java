@@ -2,49 +2,111 @@ package pl.dreilt.iteventsapi.profileimage.service;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.service.ImageUploadService;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
 import pl.dreilt.iteventsapi.profileimage.exception.DefaultProfileImageNotFoundException;
 import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
 import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ProfileImageServiceImpl implements ProfileImageService {
+    private static final Set<ImageVariant> IMAGE_VARIANTS = EnumSet.of(ImageVariant.AVATAR, ImageVariant.AVATAR_SMALL);
+    private static final String DEFAULT_IMAGE_FILE_NAME = "default_profile_image.png";
     private final ProfileImageRepository profileImageRepository;
+    private final ImageStorage imageStorage;
+    private final ImageUploadService imageUploadService;
+    private final TransactionTemplate transactionTemplate;
+    private volatile Long defaultProfileImageId;
+    private volatile byte[] defaultProfileImageData;
 
-    public ProfileImageServiceImpl(ProfileImageRepository profileImageRepository) {
+    public ProfileImageServiceImpl(ProfileImageRepository profileImageRepository,
+                                   ImageStorage imageStorage,
+                                   ImageUploadService imageUploadService,
+                                   PlatformTransactionManager transactionManager) {
         this.profileImageRepository = profileImageRepository;
+        this.imageStorage = imageStorage;
+        this.imageUploadService = imageUploadService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
-    public ProfileImage createDefaultProfileImage() {
-        ClassPathResource resource = new ClassPathResource("static/images/default_profile_image.png");
-        try (InputStream defaultProfileImage = resource.getInputStream()) {
-            ProfileImage profileImage = new ProfileImage();
-            profileImage.setFileName(resource.getFilename());
-            profileImage.setFileType("image/png");
-            profileImage.setFileData(defaultProfileImage.readAllBytes());
-            return profileImageRepository.save(profileImage);
-        } catch (IOException e) {
-            throw new DefaultProfileImageNotFoundException("File " + resource.getPath() + " not found");
+    public ProfileImage getDefaultProfileImage() {
+        Long id = defaultProfileImageId;
+        if (id == null) {
+            id = loadDefaultProfileImageId();
         }
+        return profileImageRepository.getReferenceById(id);
+    }
+
+    private synchronized Long loadDefaultProfileImageId() {
+        if (defaultProfileImageId == null) {
+            defaultProfileImageId = transactionTemplate.execute(status -> profileImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()
+                    .map(ProfileImage::getId)
+                    .orElseGet(() -> profileImageRepository.save(createDefaultProfileImage()).getId()));
+        }
+        return defaultProfileImageId;
+    }
+
+    private ProfileImage createDefaultProfileImage() {
+        ProfileImage profileImage = new ProfileImage();
+        profileImage.setFileName(DEFAULT_IMAGE_FILE_NAME);
+        profileImage.setFileType("image/png");
+        profileImage.setFileData(getDefaultProfileImageData());
+        profileImage.setDefaultImage(true);
+        return profileImage;
+    }
+
+    private byte[] getDefaultProfileImageData() {
+        byte[] fileData = defaultProfileImageData;
+        if (fileData == null) {
+            ClassPathResource resource = new ClassPathResource("static/images/" + DEFAULT_IMAGE_FILE_NAME);
+            try (InputStream defaultProfileImage = resource.getInputStream()) {
+                fileData = defaultProfileImage.readAllBytes();
+                defaultProfileImageData = fileData;
+            } catch (IOException e) {
+                throw new DefaultProfileImageNotFoundException("File " + resource.getPath() + " not found");
+            }
+        }
+        return fileData;
+    }
+
+    public byte[] readProfileImage(ProfileImage profileImage) {
+        if (profileImage.getFileData() != null) {
+            return profileImage.getFileData();
+        }
+        if (profileImage.isDefaultImage()) {
+            return getDefaultProfileImageData();
+        }
+
+        return imageStorage.read(profileImage.getFileHash());
     }
 
     public Optional<ProfileImage> updateProfileImage(AppUser user, MultipartFile newProfileImage) {
         ProfileImage currentProfileImage = user.getProfileImage();
-        try (InputStream is = newProfileImage.getInputStream()) {
-            if (currentProfileImage.getFileData() != is.readAllBytes()) {
-                currentProfileImage.setFileName(newProfileImage.getOriginalFilename());
-                currentProfileImage.setFileType(newProfileImage.getContentType());
-                currentProfileImage.setFileData(newProfileImage.getBytes());
-                return Optional.of(currentProfileImage);
-            }
+        StoredImage storedImage = imageUploadService.upload(newProfileImage, IMAGE_VARIANTS);
+        if (storedImage.getFileHash().equals(currentProfileImage.getFileHash())) {
             return Optional.empty();
-        } catch (IOException e) {
-            throw new DefaultProfileImageNotFoundException("File not found");
         }
+
+        ProfileImage profileImage = currentProfileImage.isDefaultImage() ? new ProfileImage() : currentProfileImage;
+        profileImage.setFileName(newProfileImage.getOriginalFilename());
+        profileImage.setFileType(newProfileImage.getContentType());
+        profileImage.setFileData(null);
+        profileImage.setFileHash(storedImage.getFileHash());
+        profileImage.setFileSize(storedImage.getFileSize());
+        return Optional.of(profileImage != currentProfileImage ? profileImageRepository.save(profileImage) : profileImage);
     }
 }
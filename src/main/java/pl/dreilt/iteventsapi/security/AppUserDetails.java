@@ -10,8 +10,8 @@ import java.util.List;
 
 @Getter
 public class AppUserDetails extends User {
-    private final String profileImageType;
-    private final String profileImageData;
+    private final Long id;
+    private final String profileImageUrl;
     private final String firstName;
     private final String lastName;
 
@@ -25,15 +25,15 @@ public class AppUserDetails extends User {
                 appUserDetailsBuilder.accountNonLocked,
                 appUserDetailsBuilder.authorities
         );
-        this.profileImageType = appUserDetailsBuilder.profileImageType;
-        this.profileImageData = appUserDetailsBuilder.profileImageData;
+        this.id = appUserDetailsBuilder.id;
+        this.profileImageUrl = appUserDetailsBuilder.profileImageUrl;
         this.firstName = appUserDetailsBuilder.firstName;
         this.lastName = appUserDetailsBuilder.lastName;
     }
 
     public static class AppUserDetailsBuilder {
-        private String profileImageType;
-        private String profileImageData;
+        private Long id;
+        private String profileImageUrl;
         private String firstName;
         private String lastName;
         private String username;
@@ -42,13 +42,13 @@ public class AppUserDetails extends User {
         private boolean accountNonLocked;
         private List<GrantedAuthority> authorities;
 
-        public AppUserDetailsBuilder profileImageType(String profileImageType) {
-            this.profileImageType = profileImageType;
+        public AppUserDetailsBuilder id(Long id) {
+            this.id = id;
             return this;
         }
 
-        public AppUserDetailsBuilder profileImageData(String profileImageData) {
-            this.profileImageData = profileImageData;
+        public AppUserDetailsBuilder profileImageUrl(String profileImageUrl) {
+            this.profileImageUrl = profileImageUrl;
             return this;
         }
 
@@ -0,0 +1,83 @@
+package pl.dreilt.iteventsapi.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AppUserDetailsCache implements UserCache {
+    private static final String CACHE_NAME = "principal";
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+    private final Map<String, CachedUserDetails> cachedUsers;
+
+    @Autowired
+    public AppUserDetailsCache(@Value("${application.security.principal-cache.ttl-seconds}") long ttlSeconds,
+                               @Value("${application.security.principal-cache.max-size}") int maxSize,
+                               MeterRegistry meterRegistry) {
+        this(ttlSeconds, maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    AppUserDetailsCache(long ttlSeconds, int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.cachedUsers = Collections.synchronizedMap(new LeastRecentlyUsedMap<>(maxSize));
+        this.clock = clock;
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").register(meterRegistry);
+        meterRegistry.gaugeMapSize("cache.size", Tags.of("cache", CACHE_NAME), cachedUsers);
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        CachedUserDetails cachedUser = cachedUsers.get(username);
+        if (cachedUser == null || cachedUser.expiresAtMillis() <= clock.millis()) {
+            if (cachedUser != null) {
+                cachedUsers.remove(username, cachedUser);
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return cachedUser.userDetails();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        cachedUsers.put(user.getUsername(), new CachedUserDetails(user, clock.millis() + ttlMillis));
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cachedUsers.remove(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cachedUsers.remove(username);
+                }
+            });
+        }
+    }
+
+    private record CachedUserDetails(UserDetails userDetails, long expiresAtMillis) {
+    }
+}
@@ -1,24 +1,31 @@
 package pl.dreilt.iteventsapi.security;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.image.mapper.ImageUrlMapper;
 
 import javax.transaction.Transactional;
-import java.util.Base64;
 
 @Service
-public class AppUserDetailsServiceImpl implements AppUserDetailsService {
+public class AppUserDetailsServiceImpl implements AppUserDetailsService, UserDetailsPasswordService {
+    private final Logger logger = LoggerFactory.getLogger(AppUserDetailsServiceImpl.class);
     private final AppUserRepository appUserRepository;
+    private final UserCache userCache;
 
-    public AppUserDetailsServiceImpl(AppUserRepository appUserRepository) {
+    public AppUserDetailsServiceImpl(AppUserRepository appUserRepository, UserCache userCache) {
         this.appUserRepository = appUserRepository;
+        this.userCache = userCache;
     }
 
     @Transactional
@@ -30,10 +37,22 @@ public class AppUserDetailsServiceImpl implements AppUserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(String.format("User with email %s not found", username)));
     }
 
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        AppUser user = appUserRepository
+                .findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(String.format("User with email %s not found", userDetails.getUsername())));
+        user.setPassword(newPassword);
+        userCache.removeUserFromCache(user.getEmail());
+        logger.info("User [ID: " + user.getId() + "] password hash upgraded");
+        return createAppUserDetails(user);
+    }
+
     private UserDetails createAppUserDetails(AppUser user) {
         return new AppUserDetails.AppUserDetailsBuilder()
-                .profileImageType(user.getProfileImage().getFileType())
-                .profileImageData(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()))
+                .id(user.getId())
+                .profileImageUrl(ImageUrlMapper.mapToProfileImageUrl(user.getProfileImage()))
                 .firstName(user.getFirstName())
                 .lastName(user.getLastName())
                 .username(user.getEmail())
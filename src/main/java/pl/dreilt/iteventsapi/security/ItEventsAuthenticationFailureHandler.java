@@ -1,19 +1,52 @@
 package pl.dreilt.iteventsapi.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.core.ErrorResponse;
+import pl.dreilt.iteventsapi.security.exception.PasswordHashingRejectedException;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Locale;
 
 @Component
 public class ItEventsAuthenticationFailureHandler extends SimpleUrlAuthenticationFailureHandler {
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+
+    public ItEventsAuthenticationFailureHandler(ObjectMapper objectMapper, MessageSource messageSource) {
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+    }
 
     @Override
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
+        if (exception.getCause() instanceof PasswordHashingRejectedException) {
+            response.setContentType(MediaType.APPLICATION_JSON.toString());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.displayName());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            ErrorResponse errorResponse = new ErrorResponse(
+                    new Date(),
+                    HttpStatus.SERVICE_UNAVAILABLE.value(),
+                    HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                    messageSource.getMessage("exception.PasswordHashingRejectedException.message", null, Locale.getDefault()),
+                    request.getServletPath()
+            );
+            objectMapper.writeValue(response.getOutputStream(), errorResponse);
+            return;
+        }
+
         super.onAuthenticationFailure(request, response, exception);
     }
 }
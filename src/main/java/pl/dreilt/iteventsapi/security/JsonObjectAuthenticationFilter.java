@@ -1,14 +1,15 @@
 package pl.dreilt.iteventsapi.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import pl.dreilt.iteventsapi.security.exception.PasswordHashingRejectedException;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.BufferedReader;
 import java.io.IOException;
 
 public class JsonObjectAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
@@ -21,18 +22,14 @@ public class JsonObjectAuthenticationFilter extends UsernamePasswordAuthenticati
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response) throws AuthenticationException {
         try {
-            BufferedReader reader = request.getReader();
-            StringBuilder sb = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                sb.append(line);
-            }
-            LoginData loginData = objectMapper.readValue(sb.toString(), LoginData.class);
+            LoginData loginData = objectMapper.readValue(request.getInputStream(), LoginData.class);
             UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
                     loginData.getUsername(), loginData.getPassword()
             );
             setDetails(request, token);
             return this.getAuthenticationManager().authenticate(token);
+        } catch (PasswordHashingRejectedException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
         } catch (IOException e) {
             throw new IllegalArgumentException(e.getMessage());
         }
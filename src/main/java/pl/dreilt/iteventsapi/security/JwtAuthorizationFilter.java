@@ -38,17 +38,15 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(authorizationHeader) && authorizationHeader.startsWith(TOKEN_PREFIX)) {
             String token = authorizationHeader.substring(TOKEN_PREFIX.length());
             try {
-                if (jwtUtils.validateToken(token)) {
-                    String username = jwtUtils.extractUsername(token);
-                    if (StringUtils.hasText(username)) {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                    }
+                String username = jwtUtils.verifyToken(token).getUsername();
+                if (StringUtils.hasText(username)) {
+                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                    UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
                 }
             } catch (JWTVerificationException ex) {
                 logger.error("Token is incorrect or expired");
@@ -1,36 +1,72 @@
 package pl.dreilt.iteventsapi.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import pl.dreilt.iteventsapi.core.ContentHash;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtils {
     public static final String TOKEN_PREFIX = "Bearer ";
-    private final String secret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Clock clock;
+    private final Map<String, VerifiedToken> verifiedTokens;
 
-    public JwtUtils(@Value("${application.security.jwt.secret}") String secret) {
-        this.secret = secret;
+    @Autowired
+    public JwtUtils(@Value("${application.security.jwt.secret}") String secret,
+                    @Value("${application.security.jwt.cache.max-size}") int cacheMaxSize) {
+        this(secret, cacheMaxSize, Clock.systemUTC());
+    }
+
+    JwtUtils(String secret, int cacheMaxSize, Clock clock) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = ((JWTVerifier.BaseVerification) JWT.require(algorithm)).build(clock);
+        this.clock = clock;
+        this.verifiedTokens = Collections.synchronizedMap(new LeastRecentlyUsedMap<>(cacheMaxSize));
     }
 
     public String generateToken(String username) {
+        long now = clock.millis();
         return JWT.create()
                 .withSubject(username)
-                .withIssuedAt(new Date(System.currentTimeMillis()))
-                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1L)))
-                .sign(Algorithm.HMAC256(secret));
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1L)))
+                .sign(algorithm);
     }
 
-    public boolean validateToken(String token) {
-        JWT.require(Algorithm.HMAC256(secret)).build().verify(token);
-        return true;
+    public VerifiedToken verifyToken(String token) {
+        String tokenHash = ContentHash.sha256(token.getBytes(StandardCharsets.US_ASCII));
+        long now = clock.millis();
+        VerifiedToken verifiedToken = verifiedTokens.get(tokenHash);
+        if (verifiedToken != null) {
+            if (verifiedToken.getExpiresAtMillis() > now) {
+                return verifiedToken;
+            }
+            verifiedTokens.remove(tokenHash, verifiedToken);
+        }
+
+        DecodedJWT decodedToken = verifier.verify(token);
+        verifiedToken = new VerifiedToken(decodedToken.getSubject(), expiresAtMillis(decodedToken));
+        if (verifiedToken.getExpiresAtMillis() > now) {
+            verifiedTokens.put(tokenHash, verifiedToken);
+        }
+        return verifiedToken;
     }
 
-    public String extractUsername(String token) {
-        return JWT.decode(token).getSubject();
+    private long expiresAtMillis(DecodedJWT decodedToken) {
+        Date expiresAt = decodedToken.getExpiresAt();
+        return expiresAt != null ? expiresAt.getTime() : clock.millis();
     }
 }
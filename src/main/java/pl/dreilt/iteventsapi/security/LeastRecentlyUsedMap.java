@@ -0,0 +1,18 @@
+package pl.dreilt.iteventsapi.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+    private final int maxSize;
+
+    LeastRecentlyUsedMap(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
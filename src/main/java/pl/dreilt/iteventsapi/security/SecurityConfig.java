@@ -1,19 +1,28 @@
 package pl.dreilt.iteventsapi.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.CachingUserDetailsService;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.time.Duration;
+import java.util.Map;
+
 import static pl.dreilt.iteventsapi.appuser.model.Role.*;
 
 @Configuration
@@ -22,6 +31,7 @@ public class SecurityConfig {
     private final ItEventsAuthenticationSuccessHandler successHandler;
     private final ItEventsAuthenticationFailureHandler failureHandler;
     private final AppUserDetailsService appUserDetailsService;
+    private final UserCache userCache;
     private final JwtUtils jwtUtils;
     private final ItEventsAuthenticationEntryPoint itEventsAuthenticationEntryPoint;
 
@@ -30,6 +40,7 @@ public class SecurityConfig {
             ItEventsAuthenticationSuccessHandler successHandler,
             ItEventsAuthenticationFailureHandler failureHandler,
             AppUserDetailsService appUserDetailsService,
+            UserCache userCache,
             JwtUtils jwtUtils,
             ItEventsAuthenticationEntryPoint itEventsAuthenticationEntryPoint
     ) {
@@ -37,6 +48,7 @@ public class SecurityConfig {
         this.successHandler = successHandler;
         this.failureHandler = failureHandler;
         this.appUserDetailsService = appUserDetailsService;
+        this.userCache = userCache;
         this.jwtUtils = jwtUtils;
         this.itEventsAuthenticationEntryPoint = itEventsAuthenticationEntryPoint;
     }
@@ -55,14 +67,19 @@ public class SecurityConfig {
                 .antMatchers("/api/v1/register").permitAll()
                 .antMatchers("/api/v1/users").hasRole(ROLE_USER.getRole())
                 .antMatchers("/api/v1/admin/**").hasRole(ROLE_ADMIN.getRole())
+                .antMatchers("/actuator/**").hasRole(ROLE_ADMIN.getRole())
                 .antMatchers("/api/v1/events").permitAll()
+                .antMatchers("/api/v1/events/search").permitAll()
+                .antMatchers("/api/v1/events/filter").permitAll()
+                .antMatchers("/api/v1/events/suggest").permitAll()
                 .antMatchers("/api/v1/events/cities/*").permitAll()
                 .antMatchers("/api/v1/archive/events").permitAll()
                 .antMatchers("/api/v1/archive/events/cities/*").permitAll()
+                .antMatchers("/api/v1/images/**").permitAll()
                 .antMatchers("/api/v1/organizer/create_event").hasRole(ROLE_ORGANIZER.getRole())
                 .anyRequest().authenticated());
         http.addFilter(authenticationFilter(authenticationManager));
-        http.addFilterBefore(new JwtAuthorizationFilter(jwtUtils, appUserDetailsService), JsonObjectAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthorizationFilter(jwtUtils, cachingUserDetailsService()), JsonObjectAuthenticationFilter.class);
         http.exceptionHandling().authenticationEntryPoint(itEventsAuthenticationEntryPoint);
         http.exceptionHandling().accessDeniedHandler(accessDeniedHandler());
         return http.build();
@@ -73,6 +90,12 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    public CachingUserDetailsService cachingUserDetailsService() {
+        CachingUserDetailsService cachingUserDetailsService = new CachingUserDetailsService(appUserDetailsService);
+        cachingUserDetailsService.setUserCache(userCache);
+        return cachingUserDetailsService;
+    }
+
     public JsonObjectAuthenticationFilter authenticationFilter(AuthenticationManager authenticationManager) {
         JsonObjectAuthenticationFilter authenticationFilter = new JsonObjectAuthenticationFilter(objectMapper);
         authenticationFilter.setRequiresAuthenticationRequestMatcher(new AntPathRequestMatcher("/api/v1/auth/signin", "POST"));
@@ -88,7 +111,28 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${application.security.password-hashing.threads}") int threads,
+            @Value("${application.security.password-hashing.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            ThreadPoolTaskExecutor passwordHashingExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${application.security.password-hashing.target-millis}") long targetMillis,
+            @Value("${application.security.password-hashing.min-strength}") int minStrength,
+            @Value("${application.security.password-hashing.max-strength}") int maxStrength) {
+        CalibratedBCryptPasswordEncoder bCryptPasswordEncoder = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMillis(targetMillis), minStrength, maxStrength);
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bCryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, passwordHashingExecutor, meterRegistry);
     }
 }
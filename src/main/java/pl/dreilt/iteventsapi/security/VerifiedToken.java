@@ -0,0 +1,11 @@
+package pl.dreilt.iteventsapi.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private String username;
+    private long expiresAtMillis;
+}
@@ -0,0 +1,8 @@
+package pl.dreilt.iteventsapi.security.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
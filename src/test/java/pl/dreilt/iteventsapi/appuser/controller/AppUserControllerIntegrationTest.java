@@ -87,7 +87,8 @@ class AppUserControllerIntegrationTest {
         // then
         AppUserProfileDTO returnedUserProfile = objectMapper.readValue(result.getResponse().getContentAsString(), AppUserProfileDTO.class);
         assertThat(returnedUserProfile.getProfileImageType()).isEqualTo(user.getProfileImage().getFileType());
-        assertThat(returnedUserProfile.getProfileImageData()).isEqualTo(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()));
+        assertThat(returnedUserProfile.getProfileImageUrl()).isEqualTo("/api/v1/images/profiles/" + user.getProfileImage().getId() + "?v=" + user.getProfileImage().getFileHash());
+        assertThat(returnedUserProfile.getProfileImageData()).isNull();
         assertThat(returnedUserProfile.getFirstName()).isEqualTo(user.getFirstName());
         assertThat(returnedUserProfile.getLastName()).isEqualTo(user.getLastName());
         assertThat(returnedUserProfile.getDateOfBirth()).isEqualTo(user.getDateOfBirth().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")));
@@ -223,7 +224,8 @@ class AppUserControllerIntegrationTest {
         appUserRepository.save(user);
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
-                .get("/api/v1/users/" + user.getId());
+                .get("/api/v1/users/" + user.getId())
+                .param("inline_images", "true");
         MvcResult result = mockMvc.perform(request)
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -4,10 +4,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
@@ -18,7 +21,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class CurrentUserFacadeImplUnitTest {
     private AppUserRepository appUserRepository;
@@ -33,6 +36,7 @@ class CurrentUserFacadeImplUnitTest {
     @AfterEach
     public void clearSecurityContext() {
         SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
     }
 
     @Test
@@ -49,6 +53,23 @@ class CurrentUserFacadeImplUnitTest {
         assertNotNull(currentUser);
     }
 
+    @Test
+    void shouldResolveCurrentUserOncePerRequest() {
+        // given
+        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
+        AppUserDetails userDetails = AppUserDetailsCreator.create(user);
+        Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, "tests", userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(appUserRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        // when
+        AppUser currentUser = currentUserFacadeImpl.getCurrentUser();
+        AppUser memoizedCurrentUser = currentUserFacadeImpl.getCurrentUser();
+        // then
+        assertSame(currentUser, memoizedCurrentUser);
+        verify(appUserRepository, times(1)).findByEmail(user.getEmail());
+    }
+
     @Test
     void shouldThrowExceptionIfUserDoesNotExist() {
         // given
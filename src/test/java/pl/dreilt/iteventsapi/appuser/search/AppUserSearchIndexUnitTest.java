@@ -0,0 +1,111 @@
+package pl.dreilt.iteventsapi.appuser.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.dreilt.iteventsapi.appuser.exception.SearchQueryTooBroadException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AppUserSearchIndexUnitTest {
+    private AppUserSearchIndex appUserSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        appUserSearchIndex = new AppUserSearchIndex();
+        appUserSearchIndex.index(1L, "Jan", "Kowalski", "jankowalski@example.com");
+        appUserSearchIndex.index(2L, "Patryk", "Kowalski", "patrykkowalski@example.com");
+        appUserSearchIndex.index(3L, "Anna Maria", "Nowak", "annamarianowak@example.com");
+        appUserSearchIndex.index(4L, "Dawid", "Dąbrowski", "dawiddabrowski@example.com");
+    }
+
+    @Test
+    void shouldFindUsersBySubstringOfAnyField() {
+        // given
+        // when
+        // then
+        assertThat(appUserSearchIndex.findUserIds(List.of("owals"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("ąbr"))).containsExactly(4L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("patrykk"))).containsExactly(2L);
+    }
+
+    @Test
+    void shouldRequireEverySearchWordToMatch() {
+        // given
+        // when
+        // then
+        assertThat(appUserSearchIndex.findUserIds(List.of("kowalski", "jan"))).containsExactly(1L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("anna", "maria", "nowak"))).containsExactly(3L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("anna", "maria", "kowalski"))).isEmpty();
+    }
+
+    @Test
+    void shouldFindUsersByWordShorterThanTrigram() {
+        // given
+        // when
+        // then
+        assertThat(appUserSearchIndex.findUserIds(List.of("an"))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void shouldReindexUserAfterUpdate() {
+        // given
+        appUserSearchIndex.index(1L, "Jan", "Nowicki", "jankowalski@example.com");
+        // when
+        // then
+        assertThat(appUserSearchIndex.findUserIds(List.of("kowalski"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("nowicki"))).containsExactly(1L);
+        assertThat(appUserSearchIndex.findUserIds(List.of("jan", "kowalski"))).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRestorePreviousEntryAfterRemoval() {
+        // given
+        AppUserSearchIndex.IndexedUser previous = appUserSearchIndex.remove(2L);
+        // when
+        List<Long> idsAfterRemoval = List.copyOf(appUserSearchIndex.findUserIds(List.of("patryk")));
+        appUserSearchIndex.restore(2L, previous);
+        // then
+        assertThat(idsAfterRemoval).isEmpty();
+        assertThat(appUserSearchIndex.findUserIds(List.of("patryk"))).containsExactly(2L);
+    }
+
+    @Test
+    void shouldKeepAllMatchesUpToLimit() {
+        // given
+        for (long id = 5L; id <= AppUserSearchIndex.MAX_MATCHES; id++) {
+            appUserSearchIndex.index(id, "Jan", "Kowalski", "jankowalski" + id + "@example.com");
+        }
+        // when
+        // then
+        assertThat(appUserSearchIndex.findUserIds(List.of("kowalski")))
+                .hasSize(AppUserSearchIndex.MAX_MATCHES - 2)
+                .contains(1L, 2L, (long) AppUserSearchIndex.MAX_MATCHES);
+    }
+
+    @Test
+    void shouldRejectSearchQueryMatchingTooManyUsers() {
+        // given
+        for (long id = 5L; id <= AppUserSearchIndex.MAX_MATCHES + 10L; id++) {
+            appUserSearchIndex.index(id, "Jan", "Kowalski", "jankowalski" + id + "@example.com");
+        }
+        // when
+        // then
+        assertThatThrownBy(() -> appUserSearchIndex.searchSpecification("kowalski"))
+                .isInstanceOf(SearchQueryTooBroadException.class);
+        assertThat(appUserSearchIndex.searchSpecification("jankowalski1005")).isPresent();
+    }
+
+    @Test
+    void shouldNotBuildSpecificationForBlankSearchQuery() {
+        // given
+        // when
+        // then
+        assertThat(appUserSearchIndex.searchSpecification("  ")).isEmpty();
+        assertThat(appUserSearchIndex.searchSpecification(null)).isEmpty();
+        assertThat(appUserSearchIndex.searchSpecification("zzz")).isEmpty();
+        assertThat(appUserSearchIndex.searchSpecification("Jan Kowalski")).isPresent();
+    }
+}
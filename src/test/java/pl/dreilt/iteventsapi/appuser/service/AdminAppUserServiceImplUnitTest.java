@@ -8,12 +8,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import pl.dreilt.iteventsapi.appuser.dto.*;
 import pl.dreilt.iteventsapi.appuser.exception.AppUserNotFoundException;
 import pl.dreilt.iteventsapi.appuser.exception.IncorrectCurrentPasswordException;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.appuser.search.AppUserSearchIndex;
 import pl.dreilt.iteventsapi.creator.AdminAppUserProfileEditDTOCreator;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
 import pl.dreilt.iteventsapi.profileimage.service.ProfileImageService;
@@ -28,13 +30,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.times;
-import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ADMIN;
+import static pl.dreilt.iteventsapi.appuser.model.Role.*;
 
 class AdminAppUserServiceImplUnitTest {
     static final PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.fromString("ASC"), "lastName"));
     private AppUserRepository appUserRepository;
     private ProfileImageService profileImageService;
     private PasswordEncoder passwordEncoder;
+    private UserCache userCache;
+    private AppUserSearchIndex appUserSearchIndex;
     private AdminAppUserServiceImpl adminAppUserServiceImpl;
 
     @BeforeEach
@@ -42,10 +46,14 @@ class AdminAppUserServiceImplUnitTest {
         appUserRepository = Mockito.mock(AppUserRepository.class);
         profileImageService = Mockito.mock(ProfileImageService.class);
         passwordEncoder = Mockito.mock(PasswordEncoder.class);
+        userCache = Mockito.mock(UserCache.class);
+        appUserSearchIndex = new AppUserSearchIndex();
         adminAppUserServiceImpl = new AdminAppUserServiceImpl(
                 appUserRepository,
                 profileImageService,
-                passwordEncoder
+                passwordEncoder,
+                userCache,
+                appUserSearchIndex
         );
     }
 
@@ -85,6 +93,7 @@ class AdminAppUserServiceImplUnitTest {
                 AppUserCreator.create(2L, "Jan", "Kowalski"),
                 AppUserCreator.create(3L, "Patryk", "Kowalski")
         );
+        users.forEach(user -> appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail()));
         when(appUserRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(new PageImpl<>(users, pageRequest, users.size()));
         // when
         Page<AdminAppUserTableDTO> returnedUsers = adminAppUserServiceImpl.findUsersBySearch("kowalski", pageRequest);
@@ -101,6 +110,7 @@ class AdminAppUserServiceImplUnitTest {
         List<AppUser> users = List.of(
                 AppUserCreator.create(2L, "Jan", "Kowalski")
         );
+        users.forEach(user -> appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail()));
         when(appUserRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(new PageImpl<>(users, pageRequest, users.size()));
         // when
         Page<AdminAppUserTableDTO> returnedUsers = adminAppUserServiceImpl.findUsersBySearch("jan kowalski", pageRequest);
@@ -146,6 +156,7 @@ class AdminAppUserServiceImplUnitTest {
         assertThat(updatedUserAccount.isAccountNonLocked()).isFalse();
         assertThat(updatedUserAccount.getRoles().size()).isEqualTo(1);
         assertThat(updatedUserAccount.getRoles().get(0)).isEqualTo(ROLE_ORGANIZER);
+        verify(userCache, times(1)).removeUserFromCache(user.getEmail());
     }
 
     @Test
@@ -153,6 +164,7 @@ class AdminAppUserServiceImplUnitTest {
         // given
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
         when(appUserRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(profileImageService.readProfileImage(user.getProfileImage())).thenReturn(user.getProfileImage().getFileData());
         // when
         AdminAppUserProfileEditDTO returnedUserProfileToEdit = adminAppUserServiceImpl.findUserProfileToEdit(user.getId());
         // then
@@ -171,6 +183,7 @@ class AdminAppUserServiceImplUnitTest {
         AppUser admin = AppUserCreator.create(1L, "Admin", "Admin", ROLE_ADMIN);
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
         when(appUserRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(profileImageService.readProfileImage(user.getProfileImage())).thenReturn(user.getProfileImage().getFileData());
         AdminAppUserProfileEditDTO newUserProfileData = AdminAppUserProfileEditDTOCreator.create();
         // when
         AdminAppUserProfileEditDTO updatedUserProfile = adminAppUserServiceImpl.updateUserProfile(admin, user.getId(), newUserProfileData);
@@ -206,6 +219,7 @@ class AdminAppUserServiceImplUnitTest {
         adminAppUserServiceImpl.updateUserPassword(admin, 2L, newUserPasswordData);
         // then
         verify(passwordEncoder, times(1)).encode(newUserPasswordData.getNewPassword());
+        verify(userCache, times(1)).removeUserFromCache(user.getEmail());
     }
 
     @Test
@@ -236,6 +250,8 @@ class AdminAppUserServiceImplUnitTest {
     void shouldDeleteUser() {
         // given
         AppUser admin = AppUserCreator.create(1L, "Admin", "Admin", ROLE_ADMIN);
+        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
+        when(appUserRepository.findById(user.getId())).thenReturn(Optional.of(user));
         AdminDeleteAppUserDTO deleteAppUserDTO = new AdminDeleteAppUserDTO(2L);
         deleteAppUserDTO.setAdminPassword("tests");
         when(passwordEncoder.matches(deleteAppUserDTO.getAdminPassword(), admin.getPassword())).thenReturn(true);
@@ -243,5 +259,6 @@ class AdminAppUserServiceImplUnitTest {
         adminAppUserServiceImpl.deleteUser(admin, deleteAppUserDTO);
         // then
         verify(appUserRepository, times(1)).deleteById(eq(deleteAppUserDTO.getId()));
+        verify(userCache, times(1)).removeUserFromCache(user.getEmail());
     }
 }
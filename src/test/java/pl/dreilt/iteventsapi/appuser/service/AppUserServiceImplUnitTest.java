@@ -9,11 +9,13 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import pl.dreilt.iteventsapi.appuser.dto.*;
 import pl.dreilt.iteventsapi.appuser.exception.IncorrectCurrentPasswordException;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.appuser.search.AppUserSearchIndex;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
 import pl.dreilt.iteventsapi.creator.AppUserProfileEditDTOCreator;
 import pl.dreilt.iteventsapi.creator.AppUserRegistrationDTOCreator;
@@ -40,6 +42,8 @@ class AppUserServiceImplUnitTest {
     private PasswordEncoder passwordEncoder;
     private ProfileImageService profileImageService;
     private AppUserDetailsService appUserDetailsService;
+    private UserCache userCache;
+    private AppUserSearchIndex appUserSearchIndex;
     private AppUserServiceImpl appUserServiceImpl;
 
     @BeforeEach
@@ -48,11 +52,15 @@ class AppUserServiceImplUnitTest {
         passwordEncoder = Mockito.mock(PasswordEncoder.class);
         profileImageService = Mockito.mock(ProfileImageService.class);
         appUserDetailsService = Mockito.mock(AppUserDetailsService.class);
+        userCache = Mockito.mock(UserCache.class);
+        appUserSearchIndex = new AppUserSearchIndex();
         appUserServiceImpl = new AppUserServiceImpl(
                 appUserRepository,
                 passwordEncoder,
                 profileImageService,
-                appUserDetailsService
+                appUserDetailsService,
+                userCache,
+                appUserSearchIndex
         );
     }
 
@@ -82,7 +90,7 @@ class AppUserServiceImplUnitTest {
     void shouldCreateUser() {
         // given
         AppUserRegistrationDTO newUserData = AppUserRegistrationDTOCreator.create();
-        when(profileImageService.createDefaultProfileImage()).thenReturn(ProfileImageCreator.createDefaultProfileImage());
+        when(profileImageService.getDefaultProfileImage()).thenReturn(ProfileImageCreator.createDefaultProfileImage());
         when(passwordEncoder.encode(newUserData.getPassword())).thenReturn("{bcrypt}$2a$10$r7EjB7rf4j4SJ/ZVYUVT6.AIcaz6VNOGqNGr6mWAURZleQS2bSLie");
         when(appUserRepository.save(any(AppUser.class))).thenAnswer(i -> i.getArguments()[0]);
         // when
@@ -111,8 +119,9 @@ class AppUserServiceImplUnitTest {
     void shouldReturnUserProfile() {
         // given
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
+        when(profileImageService.readProfileImage(user.getProfileImage())).thenReturn(user.getProfileImage().getFileData());
         // when
-        AppUserProfileDTO returnedUserProfile = appUserServiceImpl.findUserProfile(user);
+        AppUserProfileDTO returnedUserProfile = appUserServiceImpl.findUserProfile(user, true);
         // then
         assertThat(returnedUserProfile.getProfileImageType()).isEqualTo(user.getProfileImage().getFileType());
         assertThat(returnedUserProfile.getProfileImageData()).isEqualTo(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()));
@@ -159,6 +168,7 @@ class AppUserServiceImplUnitTest {
                 AppUserCreator.create(2L, "Jan", "Kowalski"),
                 AppUserCreator.create(3L, "Patryk", "Kowalski")
         );
+        users.forEach(user -> appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail()));
         when(appUserRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(new PageImpl<>(users, pageRequest, users.size()));
         // when
         Page<AppUserTableDTO> returnedUsers = appUserServiceImpl.findUsersBySearch("kowalski", pageRequest);
@@ -175,6 +185,7 @@ class AppUserServiceImplUnitTest {
         List<AppUser> users = List.of(
                 AppUserCreator.create(2L, "Jan", "Kowalski")
         );
+        users.forEach(user -> appUserSearchIndex.index(user.getId(), user.getFirstName(), user.getLastName(), user.getEmail()));
         when(appUserRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(new PageImpl<>(users, pageRequest, users.size()));
         // when
         Page<AppUserTableDTO> returnedUsers = appUserServiceImpl.findUsersBySearch("jan kowalski", pageRequest);
@@ -191,11 +202,12 @@ class AppUserServiceImplUnitTest {
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
         when(appUserRepository.findById(user.getId())).thenReturn(Optional.of(user));
         // when
-        AppUserProfileDTO returnedUserProfile = appUserServiceImpl.findUserProfileByUserId(user.getId());
+        AppUserProfileDTO returnedUserProfile = appUserServiceImpl.findUserProfileByUserId(user.getId(), false);
         // then
         assertThat(returnedUserProfile).isNotNull();
         assertThat(returnedUserProfile.getProfileImageType()).isEqualTo(user.getProfileImage().getFileType());
-        assertThat(returnedUserProfile.getProfileImageData()).isEqualTo(Base64.getEncoder().encodeToString(user.getProfileImage().getFileData()));
+        assertThat(returnedUserProfile.getProfileImageUrl()).isEqualTo("/api/v1/images/profiles/" + user.getProfileImage().getId() + "?v=" + user.getProfileImage().getFileHash());
+        assertThat(returnedUserProfile.getProfileImageData()).isNull();
         assertThat(returnedUserProfile.getFirstName()).isEqualTo(user.getFirstName());
         assertThat(returnedUserProfile.getLastName()).isEqualTo(user.getLastName());
         assertThat(returnedUserProfile.getDateOfBirth()).isEqualTo(user.getDateOfBirth().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")));
@@ -246,6 +258,7 @@ class AppUserServiceImplUnitTest {
         appUserServiceImpl.updateUserPassword(user, newUserPasswordData);
         // then
         verify(passwordEncoder, times(1)).encode(newUserPasswordData.getNewPassword());
+        verify(userCache, times(1)).removeUserFromCache(user.getEmail());
     }
 
     @Test
@@ -0,0 +1,93 @@
+package pl.dreilt.iteventsapi.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.validation.ConstraintValidatorContext;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ImageValidatorUnitTest {
+    private ConstraintValidatorContext context;
+    private ImageValidator imageValidator;
+
+    @BeforeEach
+    void setUp() {
+        context = Mockito.mock(ConstraintValidatorContext.class, RETURNS_DEEP_STUBS);
+        Image image = Mockito.mock(Image.class);
+        when(image.width()).thenReturn(480);
+        when(image.height()).thenReturn(270);
+        imageValidator = new ImageValidator();
+        imageValidator.initialize(image);
+    }
+
+    @Test
+    void shouldAcceptImageWithinAllowedDimensions() throws IOException {
+        // given
+        MultipartFile image = new MockMultipartFile("image", "image.png", "image/png", createImage(480, 270, "png"));
+        // when
+        boolean valid = imageValidator.isValid(image, context);
+        // then
+        assertThat(valid).isTrue();
+    }
+
+    @Test
+    void shouldRejectImageExceedingAllowedDimensions() throws IOException {
+        // given
+        MultipartFile image = new MockMultipartFile("image", "image.jpg", "image/jpeg", createImage(481, 270, "jpeg"));
+        // when
+        boolean valid = imageValidator.isValid(image, context);
+        // then
+        assertThat(valid).isFalse();
+        verify(context).buildConstraintViolationWithTemplate("{validation.annotation.Image.invalidImageSize.message}");
+    }
+
+    @Test
+    void shouldRejectImageWhoseContentDoesNotMatchContentType() throws IOException {
+        // given
+        MultipartFile image = new MockMultipartFile("image", "image.png", "image/png", createImage(100, 100, "jpeg"));
+        // when
+        boolean valid = imageValidator.isValid(image, context);
+        // then
+        assertThat(valid).isFalse();
+        verify(context).buildConstraintViolationWithTemplate("{validation.annotation.Image.invalidFileType.message}");
+    }
+
+    @Test
+    void shouldRejectFileThatIsNotAnImage() {
+        // given
+        MultipartFile image = new MockMultipartFile("image", "image.png", "image/png", "<svg></svg>".getBytes());
+        // when
+        boolean valid = imageValidator.isValid(image, context);
+        // then
+        assertThat(valid).isFalse();
+        verify(context).buildConstraintViolationWithTemplate("{validation.annotation.Image.invalidFileType.message}");
+    }
+
+    @Test
+    void shouldRejectTooLargeFileWithoutReadingIt() throws IOException {
+        // given
+        MultipartFile image = Mockito.mock(MultipartFile.class);
+        when(image.getSize()).thenReturn(2097153L);
+        // when
+        boolean valid = imageValidator.isValid(image, context);
+        // then
+        assertThat(valid).isFalse();
+        verify(context).buildConstraintViolationWithTemplate("{validation.annotation.Image.invalidFileSize.message}");
+        verify(image, never()).getInputStream();
+    }
+
+    private static byte[] createImage(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
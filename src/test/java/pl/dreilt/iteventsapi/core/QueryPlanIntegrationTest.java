@@ -0,0 +1,112 @@
+package pl.dreilt.iteventsapi.core;
+
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.appuser.specification.AppUserSpecification;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class QueryPlanIntegrationTest {
+    static final LocalDateTime DATE_TIME = LocalDateTime.of(2030, 1, 1, 18, 0);
+    static final PageRequest ascendingPageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+    static final PageRequest descendingPageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "dateTime"));
+    static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*PUBLIC\\.\\w+(\\.tableScan)?\\s*\\*/");
+    static final Map<String, String> FULL_SCANS_ALLOWED = Map.of(
+            "findAllEventCities", "counts events per city to build the city catalog",
+            "findAllEventTexts", "pages through every event to build the search index",
+            "findAllBy", "pages through every user to build the user search index"
+    );
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @TestFactory
+    Stream<DynamicTest> shouldNotPlanFullTableScans() {
+        AppUser user = AppUser.builder().id(1L).build();
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("findAllEventCities", () -> eventRepository.findAllEventCities());
+        queries.put("findAllEventTexts", () -> eventRepository.findAllEventTexts(PageRequest.of(0, 500, Sort.by("id"))));
+        queries.put("findUpcomingEventFacets", () -> eventRepository.findUpcomingEventFacets(DATE_TIME));
+        queries.put("findEventCardsByIds", () -> eventRepository.findEventCardsByIds(List.of(1L, 2L)));
+        queries.put("findById", () -> eventRepository.findById(1L));
+        queries.put("countParticipant", () -> eventRepository.countParticipant(1L, 1L));
+        queries.put("findEventParticipants", () -> eventRepository.findEventParticipants(1L, PageRequest.of(0, 10)));
+        queries.put("removeParticipant", () -> eventRepository.removeParticipant(1L, 1L));
+        queries.put("countAllUpcomingEvents", () -> eventRepository.countAllUpcomingEvents(DATE_TIME));
+        queries.put("countUpcomingEventsByCity", () -> eventRepository.countUpcomingEventsByCity("Rzeszów", DATE_TIME));
+        queries.put("countAllPastEvents", () -> eventRepository.countAllPastEvents(DATE_TIME));
+        queries.put("countPastEventsByCity", () -> eventRepository.countPastEventsByCity("Rzeszów", DATE_TIME));
+        queries.put("findAllUpcomingEvents", () -> eventRepository.findAllUpcomingEvents(DATE_TIME, ascendingPageRequest));
+        queries.put("findAllUpcomingEventsAfter", () -> eventRepository.findAllUpcomingEventsAfter(DATE_TIME, DATE_TIME, 1L, PageRequest.of(0, 11)));
+        queries.put("findUpcomingEventsByCity", () -> eventRepository.findUpcomingEventsByCity("Rzeszów", DATE_TIME, ascendingPageRequest));
+        queries.put("findUpcomingEventsByCityAfter", () -> eventRepository.findUpcomingEventsByCityAfter("Rzeszów", DATE_TIME, DATE_TIME, 1L, PageRequest.of(0, 11)));
+        queries.put("findAllPastEvents", () -> eventRepository.findAllPastEvents(DATE_TIME, descendingPageRequest));
+        queries.put("findAllPastEventsBefore", () -> eventRepository.findAllPastEventsBefore(DATE_TIME, DATE_TIME, 1L, PageRequest.of(0, 11)));
+        queries.put("findPastEventsByCity", () -> eventRepository.findPastEventsByCity("Rzeszów", DATE_TIME, descendingPageRequest));
+        queries.put("findPastEventsByCityBefore", () -> eventRepository.findPastEventsByCityBefore("Rzeszów", DATE_TIME, DATE_TIME, 1L, PageRequest.of(0, 11)));
+        queries.put("findOrganizerEvents", () -> eventRepository.findOrganizerEvents(user, ascendingPageRequest));
+        queries.put("findOrganizerEventsSlice", () -> eventRepository.findOrganizerEventsSlice(user, ascendingPageRequest));
+        queries.put("findOrganizerEventsByCity", () -> eventRepository.findOrganizerEventsByCity(user, "Rzeszów", ascendingPageRequest));
+        queries.put("findOrganizerEventsByCitySlice", () -> eventRepository.findOrganizerEventsByCitySlice(user, "Rzeszów", ascendingPageRequest));
+        queries.put("findUserEvents", () -> eventRepository.findUserEvents(user, ascendingPageRequest));
+        queries.put("findUserEventsSlice", () -> eventRepository.findUserEventsSlice(user, ascendingPageRequest));
+        queries.put("findUserUpcomingEventsAfter", () -> eventRepository.findUserUpcomingEventsAfter(user, DATE_TIME, DATE_TIME, Long.MAX_VALUE, PageRequest.of(0, 11)));
+        queries.put("findUserPastEventsBefore", () -> eventRepository.findUserPastEventsBefore(user, DATE_TIME, DATE_TIME, Long.MIN_VALUE, PageRequest.of(0, 11)));
+        queries.put("findUserEventsByCity", () -> eventRepository.findUserEventsByCity(user, "Rzeszów", ascendingPageRequest));
+        queries.put("findUserEventsByCitySlice", () -> eventRepository.findUserEventsByCitySlice(user, "Rzeszów", ascendingPageRequest));
+        queries.put("existsByEmail", () -> appUserRepository.existsByEmail("jankowalski@example.com"));
+        queries.put("findByEmail", () -> appUserRepository.findByEmail("jankowalski@example.com"));
+        queries.put("findAllBy", () -> appUserRepository.findAllBy(PageRequest.of(0, 500, Sort.by("id"))));
+        queries.put("findAllByIds", () -> appUserRepository.findAll(AppUserSpecification.byIds(List.of(1L, 2L)), PageRequest.of(0, 10)));
+
+        return queries.entrySet().stream().map(query -> DynamicTest.dynamicTest(query.getKey(), () -> {
+            List<String> statements = QueryPlanRecorder.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                query.getValue().run();
+                status.setRollbackOnly();
+            }));
+            assertThat(statements).isNotEmpty();
+            List<String> fullScans = statements.stream()
+                    .map(this::explain)
+                    .filter(plan -> FULL_SCAN.matcher(plan).find())
+                    .toList();
+            if (FULL_SCANS_ALLOWED.containsKey(query.getKey())) {
+                assertThat(fullScans).as(query.getKey() + " no longer scans, remove it from FULL_SCANS_ALLOWED").isNotEmpty();
+            } else {
+                assertThat(fullScans).as(query.getKey() + " plans a full scan").isEmpty();
+            }
+        }));
+    }
+
+    private String explain(String statement) {
+        return jdbcTemplate.execute("EXPLAIN " + statement, (PreparedStatement explainStatement) -> {
+            try (ResultSet plan = explainStatement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package pl.dreilt.iteventsapi.core;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QueryPlanRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> recordedStatements = new ThreadLocal<>();
+
+    public static List<String> record(Runnable action) {
+        List<String> statements = new ArrayList<>();
+        recordedStatements.set(statements);
+        try {
+            action.run();
+        } finally {
+            recordedStatements.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = recordedStatements.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,14 @@
+package pl.dreilt.iteventsapi.creator;
+
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+
+import java.time.LocalDateTime;
+
+public class EventCardDTOCreator {
+
+    public static EventCardDTO create(Long id, String name, LocalDateTime dateTime) {
+        return new EventCardDTO(id, dateTime, name, "Rzeszów", EventType.MEETING, AdmissionType.FREE);
+    }
+}
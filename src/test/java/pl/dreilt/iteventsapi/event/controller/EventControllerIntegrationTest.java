@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -22,17 +23,27 @@ import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+import pl.dreilt.iteventsapi.event.search.EventFacetIndex;
+import pl.dreilt.iteventsapi.event.search.EventSearchIndex;
+import pl.dreilt.iteventsapi.event.search.EventSuggestionIndex;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
+import pl.dreilt.iteventsapi.event.service.HomeFeedService;
 import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
 import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
@@ -53,6 +64,16 @@ class EventControllerIntegrationTest {
     private EventImageRepository eventImageRepository;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private HomeFeedService homeFeedService;
+    @Autowired
+    private CityCatalogService cityCatalogService;
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+    @Autowired
+    private EventFacetIndex eventFacetIndex;
+    @Autowired
+    private EventSuggestionIndex eventSuggestionIndex;
 
     @Test
     @Transactional
@@ -73,6 +94,7 @@ class EventControllerIntegrationTest {
                 EventCreator.create("Java Dev Talks #10", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(9L), organizer)
         );
         eventRepository.saveAll(events);
+        homeFeedService.evictHomeFeed();
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/home");
@@ -85,6 +107,33 @@ class EventControllerIntegrationTest {
         assertThat(returnedEvents.size()).isEqualTo(10);
     }
 
+    @Test
+    @Transactional
+    void shouldReturnNotModifiedWhenHomeFeedETagMatches() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        List<Event> events = List.of(
+                EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.minusWeeks(2L), organizer),
+                EventCreator.create("Java Dev Talks #2", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer)
+        );
+        eventRepository.saveAll(events);
+        homeFeedService.evictHomeFeed();
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/home"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/home")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag);
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
     @Test
     @Transactional
     @WithMockUser(username = "jankowalski@example.com")
@@ -142,6 +191,140 @@ class EventControllerIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(7)));
     }
 
+    @Test
+    @Transactional
+    void shouldReturnAllUpcomingEventsWithoutTotal() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 11; i++) {
+            events.add(EventCreator.create("Java Dev Talks #" + i, eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(i), organizer));
+        }
+        eventRepository.saveAll(events);
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/events")
+                .param("with_total", "false");
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnAllUpcomingEventsByCursor() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        LocalDateTime dateTime = DATE_TIME.truncatedTo(ChronoUnit.SECONDS);
+        List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 13; i++) {
+            events.add(EventCreator.create("Java Dev Talks #" + i, eventImageRepository.save(EventImageCreator.createDefaultEventImage()), dateTime.plusWeeks(i), organizer));
+        }
+        eventRepository.saveAll(events);
+        // when
+        MvcResult firstPageResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events").param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPageResult.getResponse().getContentAsString()).get("nextCursor").asText();
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events").param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].name").value("Java Dev Talks #11"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnSearchedEvents() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        Event event = EventCreator.create("Gdańsk Quarkus Meetup", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer);
+        eventRepository.save(event);
+        eventSearchIndex.index(event.getId(), event.getName(), event.getDescription());
+        try {
+            // when
+            // then
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/search").param("q", "gdansk quarkus"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].name").value("Gdańsk Quarkus Meetup"));
+        } finally {
+            eventSearchIndex.remove(event.getId());
+        }
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnFilteredUpcomingEventsWithFacetCounts() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        Event conference = EventCreator.create("Java Dev Conference", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(1L), organizer);
+        conference.setEventType(EventType.CONFERENCE);
+        conference.setAdmission(AdmissionType.PAID);
+        eventRepository.saveAll(List.of(
+                EventCreator.create("Java Dev Talks #2", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(2L), organizer),
+                conference,
+                EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer)
+        ));
+        eventFacetIndex.evictEventFacets();
+        // when
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/filter")
+                        .param("type", "MEETING")
+                        .param("city", "rzeszow"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events.content", hasSize(2)))
+                .andExpect(jsonPath("$.events.content[0].name").value("Java Dev Talks #1"))
+                .andExpect(jsonPath("$.events.content[1].name").value("Java Dev Talks #2"))
+                .andExpect(jsonPath("$.facets.eventTypes.MEETING").value(2))
+                .andExpect(jsonPath("$.facets.cities[0].nameWithoutPlCharacters").value("rzeszow"))
+                .andExpect(jsonPath("$.facets.cities[0].displayName").value("Rzeszów"))
+                .andExpect(jsonPath("$.facets.cities[0].events").value(2));
+        eventFacetIndex.evictEventFacets();
+    }
+
+    @Test
+    void shouldReturnEventSuggestions() throws Exception {
+        // given
+        eventSuggestionIndex.index(Long.MAX_VALUE, "Scala Days", "Zielona Góra", DATE_TIME);
+        // when
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/suggest").param("prefix", "zielona g"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("CITY"))
+                .andExpect(jsonPath("$[0].displayName").value("Zielona Góra"))
+                .andExpect(jsonPath("$[0].upcomingEvents").value(1));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+        // given
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/archive/events")
+                .param("cursor", "invalid-cursor");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void shouldReturnUpcomingEventsByCity() throws Exception {
@@ -164,6 +347,7 @@ class EventControllerIntegrationTest {
                 EventCreator.create("Java Dev Talks #13", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(6L), organizer)
         );
         eventRepository.saveAll(events);
+        events.forEach(event -> cityCatalogService.addEvent(event.getCity()));
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/events/cities/rzeszow");
@@ -226,6 +410,7 @@ class EventControllerIntegrationTest {
                 EventCreator.create("Java Dev Talks #13", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(6L), organizer)
         );
         eventRepository.saveAll(events);
+        events.forEach(event -> cityCatalogService.addEvent(event.getCity()));
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/archive/events/cities/rzeszow");
@@ -261,6 +446,33 @@ class EventControllerIntegrationTest {
         assertThat(returnedEvent.isCurrentUserIsParticipant()).isEqualTo(true);
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(username = "jankowalski@example.com")
+    void shouldAddUserToEventParticipantsListOnlyOnce() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        AppUser user = AppUserCreator.create("Jan", "Kowalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        List<AppUser> users = List.of(
+                organizer,
+                user
+        );
+        appUserRepository.saveAll(users);
+        Event event = EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer);
+        eventRepository.save(event);
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post("/api/v1/events/" + event.getId() + "/join");
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.currentUserIsParticipant").value(true));
+        // then
+        assertThat(eventRepository.countParticipant(event.getId(), user.getId())).isEqualTo(1L);
+    }
+
     @Test
     @Transactional
     @WithMockUser(username = "jankowalski@example.com")
@@ -274,8 +486,8 @@ class EventControllerIntegrationTest {
         );
         appUserRepository.saveAll(users);
         Event event = EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer);
-        event.addParticipant(user);
         eventRepository.save(event);
+        eventRepository.addParticipant(event.getId(), user.getId());
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .post("/api/v1/events/" + event.getId() + "/leave");
@@ -322,7 +534,50 @@ class EventControllerIntegrationTest {
         mockMvc.perform(request)
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content", hasSize(10)));
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].name").value("Java Dev Talks #1"));
+    }
+
+    @Test
+    @Transactional
+    @WithMockUser(username = "jankowalski@example.com")
+    void shouldGetUserUpcomingAndPastEventsByCursor() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        AppUser user = AppUserCreator.create("Jan", "Kowalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.saveAll(List.of(organizer, user));
+        LocalDateTime dateTime = DATE_TIME.truncatedTo(ChronoUnit.SECONDS);
+        List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            events.add(EventCreator.create("Java Dev Talks #" + i, eventImageRepository.save(EventImageCreator.createDefaultEventImage()), dateTime.plusWeeks(i), organizer, List.of(user)));
+        }
+        events.add(EventCreator.create("Java Dev Talks #13", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), dateTime.plusWeeks(13L), organizer));
+        for (int i = 1; i <= 3; i++) {
+            events.add(EventCreator.create("Java Dev Talks #-" + i, eventImageRepository.save(EventImageCreator.createDefaultEventImage()), dateTime.minusYears(1L).minusWeeks(i), organizer, List.of(user)));
+        }
+        eventRepository.saveAll(events);
+        // when
+        MvcResult firstPageResult = mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/my_events").param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.content[0].name").value("Java Dev Talks #1"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(firstPageResult.getResponse().getContentAsString()).get("nextCursor").asText();
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/my_events").param("cursor", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[1].name").value("Java Dev Talks #12"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/archive/events/my_events").param("cursor", ""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].name").value("Java Dev Talks #-1"))
+                .andExpect(jsonPath("$.hasNext").value(false));
     }
 
     @Test
@@ -353,6 +608,7 @@ class EventControllerIntegrationTest {
                 EventCreator.create("Java Dev Talks #13", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(6L), organizer, List.of(user))
         );
         eventRepository.saveAll(events);
+        events.forEach(event -> cityCatalogService.addEvent(event.getCity()));
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/events/my_events/cities/rzeszow");
@@ -20,6 +20,7 @@ import pl.dreilt.iteventsapi.event.dto.EventDTO;
 import pl.dreilt.iteventsapi.event.dto.EventEditDTO;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.service.CityCatalogService;
 import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
 import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
 
@@ -53,6 +54,8 @@ class OrganizerEventControllerIntegrationTest {
     private EventImageRepository eventImageRepository;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private CityCatalogService cityCatalogService;
 
     @Test
     @Transactional
@@ -127,6 +130,7 @@ class OrganizerEventControllerIntegrationTest {
                 EventCreator.create("Java Dev Talks #10", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(9L), organizer)
         );
         eventRepository.saveAll(events);
+        events.forEach(event -> cityCatalogService.addEvent(event.getCity()));
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/organizer/events/cities/rzeszow");
@@ -210,8 +214,9 @@ class OrganizerEventControllerIntegrationTest {
         appUserRepository.save(organizer);
         Event event = EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer);
         AppUser user = AppUserCreator.create("Jan", "Kowalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()));
-        event.addParticipant(user);
+        appUserRepository.save(user);
         eventRepository.save(event);
+        eventRepository.addParticipant(event.getId(), user.getId());
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get("/api/v1/organizer/events/" + event.getId() + "/participants");
@@ -221,6 +226,32 @@ class OrganizerEventControllerIntegrationTest {
                 .andExpect(jsonPath("$.content", hasSize(1)));
     }
 
+    @Test
+    @Transactional
+    @WithMockUser(username = "jannowak@example.com", roles = {"ORGANIZER"})
+    void shouldReturnEventParticipantsPagedAndSortedByLastName() throws Exception {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        Event event = eventRepository.save(EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer));
+        for (char letter = 'L'; letter >= 'A'; letter--) {
+            AppUser user = AppUserCreator.create("Jan", letter + "owalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()));
+            appUserRepository.save(user);
+            eventRepository.addParticipant(event.getId(), user.getId());
+        }
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/organizer/events/" + event.getId() + "/participants")
+                .param("page", "2");
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(12))
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].lastName").value("Kowalski"))
+                .andExpect(jsonPath("$.content[1].lastName").value("Lowalski"));
+    }
+
     @Test
     @Transactional
     @WithMockUser(username = "jannowak@example.com", roles = {"ORGANIZER"})
@@ -231,8 +262,8 @@ class OrganizerEventControllerIntegrationTest {
         Event event = EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME, organizer);
         AppUser user = AppUserCreator.create("Jan", "Kowalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()));
         appUserRepository.save(user);
-        event.addParticipant(user);
         eventRepository.save(event);
+        eventRepository.addParticipant(event.getId(), user.getId());
         // when
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .put("/api/v1/organizer/events/" + event.getId() + "/participants/" + user.getId());
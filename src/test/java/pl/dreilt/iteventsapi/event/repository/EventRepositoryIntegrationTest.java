@@ -0,0 +1,104 @@
+package pl.dreilt.iteventsapi.event.repository;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.EventCreator;
+import pl.dreilt.iteventsapi.creator.EventImageCreator;
+import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.model.Event;
+import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import javax.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
+
+@SpringBootTest
+class EventRepositoryIntegrationTest {
+    static final LocalDateTime DATE_TIME = LocalDateTime.now().with(TemporalAdjusters.next(DayOfWeek.TUESDAY)).withHour(18).withMinute(0);
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+    @Autowired
+    private EventImageRepository eventImageRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @Transactional
+    void shouldReturnEventCardsWithoutLoadingEntities() {
+        // given
+        AppUser organizer = AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER);
+        appUserRepository.save(organizer);
+        List<Event> events = List.of(
+                EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(1L), organizer),
+                EventCreator.create("Java Dev Talks #2", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(2L), organizer),
+                EventCreator.create("Java Dev Talks #3", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(3L), organizer)
+        );
+        eventRepository.saveAll(events);
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        // when
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+        Slice<EventCardDTO> eventCards = eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest);
+        // then
+        statistics.setStatisticsEnabled(false);
+        assertThat(eventCards.getContent()).extracting(EventCardDTO::getName)
+                .containsExactly("Java Dev Talks #1", "Java Dev Talks #2", "Java Dev Talks #3");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void shouldKeepUserCacheWhenParticipantIsAdded() {
+        // given
+        AppUser organizer = transactionTemplate.execute(status -> appUserRepository.save(
+                AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER)));
+        Event event = transactionTemplate.execute(status -> eventRepository.save(
+                EventCreator.create("Java Dev Talks #1", eventImageRepository.save(EventImageCreator.createDefaultEventImage()), DATE_TIME.plusWeeks(1L), organizer)));
+        try {
+            appUserRepository.findById(organizer.getId());
+            Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+            assertThat(cache.containsEntity(AppUser.class, organizer.getId())).isTrue();
+            // when
+            Integer addedParticipants = transactionTemplate.execute(status -> eventRepository.addParticipant(event.getId(), organizer.getId()));
+            // then
+            assertThat(addedParticipants).isEqualTo(1);
+            assertThat(cache.containsEntity(AppUser.class, organizer.getId())).isTrue();
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                eventRepository.removeParticipant(event.getId(), organizer.getId());
+                eventRepository.delete(event);
+                eventImageRepository.delete(event.getEventImage());
+                appUserRepository.delete(organizer);
+                profileImageRepository.delete(organizer.getProfileImage());
+            });
+        }
+    }
+}
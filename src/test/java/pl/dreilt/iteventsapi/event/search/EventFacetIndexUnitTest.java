@@ -0,0 +1,121 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import pl.dreilt.iteventsapi.event.dto.CityFacetDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventFacetDTO;
+import pl.dreilt.iteventsapi.event.dto.EventFilterDTO;
+import pl.dreilt.iteventsapi.event.dto.FilteredEventsDTO;
+import pl.dreilt.iteventsapi.event.enumeration.AdmissionType;
+import pl.dreilt.iteventsapi.event.enumeration.EventType;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.service.CityCatalogServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventFacetIndexUnitTest {
+    static final LocalDateTime CURRENT_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+    static final PageRequest pageRequest = PageRequest.of(0, 10);
+    private EventRepository eventRepository;
+    private EventFacetIndex eventFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = Mockito.mock(EventRepository.class);
+        eventFacetIndex = new EventFacetIndex(eventRepository, new CityCatalogServiceImpl(eventRepository));
+        when(eventRepository.findUpcomingEventFacets(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventFacetDTO(1L, CURRENT_DATE_TIME.plusDays(1L), "Java Dev Talks #1", "Rzeszów", EventType.MEETING, AdmissionType.FREE, "polski"),
+                new EventFacetDTO(2L, CURRENT_DATE_TIME.plusDays(2L), "Devoxx", "Kraków", EventType.CONFERENCE, AdmissionType.PAID, "angielski"),
+                new EventFacetDTO(3L, CURRENT_DATE_TIME.plusDays(3L), "Java Dev Talks #2", "Rzeszów", EventType.MEETING, AdmissionType.FREE, "polski"),
+                new EventFacetDTO(4L, CURRENT_DATE_TIME.plusDays(4L), "4Developers", "Warszawa", EventType.CONFERENCE, AdmissionType.PAID, "polski"),
+                new EventFacetDTO(5L, CURRENT_DATE_TIME.plusDays(5L), "Kraków JUG", "Kraków", EventType.MEETING, AdmissionType.FREE, "polski")
+        ));
+    }
+
+    @Test
+    void shouldReturnAllUpcomingEventsWithFacetCounts() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(null, null, null, null, null, null);
+        // when
+        FilteredEventsDTO filteredEvents = eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // then
+        assertThat(filteredEvents.getEvents().getContent()).extracting(EventCardDTO::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(filteredEvents.getFacets().getEventTypes()).isEqualTo(Map.of(EventType.MEETING, 3L, EventType.CONFERENCE, 2L));
+        assertThat(filteredEvents.getFacets().getCities())
+                .extracting(CityFacetDTO::getNameWithoutPlCharacters, CityFacetDTO::getDisplayName, CityFacetDTO::getEvents)
+                .containsExactly(tuple("krakow", "Kraków", 2L), tuple("rzeszow", "Rzeszów", 2L), tuple("warszawa", "Warszawa", 1L));
+    }
+
+    @Test
+    void shouldIntersectSelectedFacets() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(List.of(EventType.MEETING), List.of(AdmissionType.FREE), List.of("polski"), List.of("krakow", "rzeszow"), null, null);
+        // when
+        FilteredEventsDTO filteredEvents = eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // then
+        assertThat(filteredEvents.getEvents().getContent()).extracting(EventCardDTO::getId).containsExactly(1L, 3L, 5L);
+        assertThat(filteredEvents.getEvents().getTotalElements()).isEqualTo(3);
+        assertThat(filteredEvents.getFacets().getCities())
+                .extracting(CityFacetDTO::getNameWithoutPlCharacters, CityFacetDTO::getDisplayName, CityFacetDTO::getEvents)
+                .containsExactly(tuple("krakow", "Kraków", 1L), tuple("rzeszow", "Rzeszów", 2L));
+        assertThat(filteredEvents.getFacets().getAdmissions()).isEqualTo(Map.of(AdmissionType.FREE, 3L));
+    }
+
+    @Test
+    void shouldFilterByDateRange() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(null, null, null, null, CURRENT_DATE_TIME.plusDays(2L), CURRENT_DATE_TIME.plusDays(4L));
+        // when
+        FilteredEventsDTO filteredEvents = eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // then
+        assertThat(filteredEvents.getEvents().getContent()).extracting(EventCardDTO::getId).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void shouldSkipEventsThatAreNoLongerUpcoming() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(null, null, null, null, null, null);
+        eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // when
+        FilteredEventsDTO filteredEvents = eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME.plusDays(3L), pageRequest);
+        // then
+        assertThat(filteredEvents.getEvents().getContent()).extracting(EventCardDTO::getId).containsExactly(4L, 5L);
+        verify(eventRepository, times(1)).findUpcomingEventFacets(any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldReturnRequestedPageAndCountAllMatches() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(null, null, null, null, null, null);
+        // when
+        FilteredEventsDTO filteredEvents = eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, PageRequest.of(1, 2));
+        // then
+        assertThat(filteredEvents.getEvents().getContent()).extracting(EventCardDTO::getId).containsExactly(3L, 4L);
+        assertThat(filteredEvents.getEvents().getTotalElements()).isEqualTo(5);
+        assertThat(filteredEvents.getFacets().getLanguages()).isEqualTo(Map.of("polski", 4L, "angielski", 1L));
+    }
+
+    @Test
+    void shouldReloadEventsAfterEviction() {
+        // given
+        EventFilterDTO filter = new EventFilterDTO(null, null, null, null, null, null);
+        eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // when
+        eventFacetIndex.evictEventFacets();
+        eventFacetIndex.filterUpcomingEvents(filter, CURRENT_DATE_TIME, pageRequest);
+        // then
+        verify(eventRepository, times(2)).findUpcomingEventFacets(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,83 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexUnitTest {
+    private EventSearchIndex eventSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventSearchIndex = new EventSearchIndex();
+    }
+
+    @Test
+    void shouldFoldPolishCharacters() {
+        // given
+        eventSearchIndex.index(1L, "Łódź JUG", "Spotkanie łódzkiej grupy użytkowników Javy.");
+        // when
+        List<Long> eventIds = eventSearchIndex.search("LODZ lodzkiej uzytkownikow");
+        // then
+        assertThat(eventIds).containsExactly(1L);
+    }
+
+    @Test
+    void shouldRankEventsByRelevance() {
+        // given
+        eventSearchIndex.index(1L, "Kotlin Meetup", "Spotkanie pasjonatów języka Kotlin. Gościnnie o Javie i Spring Boot.");
+        eventSearchIndex.index(2L, "Spring Boot Workshop", "Warsztaty ze Spring Boot.");
+        eventSearchIndex.index(3L, "Java Dev Talks", "Spotkanie rzeszowskiej grupy pasjonatów języka Java.");
+        // when
+        List<Long> eventIds = eventSearchIndex.search("spring boot");
+        // then
+        assertThat(eventIds).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldRankNameMatchesAboveDescriptionMatches() {
+        // given
+        eventSearchIndex.index(1L, "Meetup", "Spotkanie o Kubernetes i chmurze.");
+        eventSearchIndex.index(2L, "Kubernetes Meetup", "Spotkanie o chmurze.");
+        // when
+        List<Long> eventIds = eventSearchIndex.search("kubernetes");
+        // then
+        assertThat(eventIds).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void shouldReindexUpdatedEvent() {
+        // given
+        eventSearchIndex.index(1L, "Java Dev Talks", "Spotkanie grupy Java.");
+        // when
+        eventSearchIndex.index(1L, "Kotlin Dev Talks", "Spotkanie grupy Kotlin.");
+        // then
+        assertThat(eventSearchIndex.search("java")).isEmpty();
+        assertThat(eventSearchIndex.search("kotlin")).containsExactly(1L);
+        assertThat(eventSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReturnRemovedEvent() {
+        // given
+        eventSearchIndex.index(1L, "Java Dev Talks", "Spotkanie grupy Java.");
+        // when
+        eventSearchIndex.remove(1L);
+        // then
+        assertThat(eventSearchIndex.search("java")).isEmpty();
+        assertThat(eventSearchIndex.size()).isZero();
+    }
+
+    @Test
+    void shouldReturnNothingForBlankQuery() {
+        // given
+        eventSearchIndex.index(1L, "Java Dev Talks", "Spotkanie grupy Java.");
+        // when
+        List<Long> eventIds = eventSearchIndex.search("  ");
+        // then
+        assertThat(eventIds).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package pl.dreilt.iteventsapi.event.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import pl.dreilt.iteventsapi.event.dto.EventSuggestionDTO;
+import pl.dreilt.iteventsapi.event.enumeration.SuggestionType;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.service.CityCatalogServiceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class EventSuggestionIndexUnitTest {
+    static final LocalDateTime CURRENT_DATE_TIME = LocalDateTime.of(2030, 1, 1, 12, 0);
+    private EventSuggestionIndex eventSuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        eventSuggestionIndex = new EventSuggestionIndex(new CityCatalogServiceImpl(Mockito.mock(EventRepository.class)));
+    }
+
+    @Test
+    void shouldSuggestCitiesByFoldedPrefix() {
+        // given
+        eventSuggestionIndex.index(1L, "Łódź JUG", "Łódź", CURRENT_DATE_TIME.plusDays(1L));
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("lod", CURRENT_DATE_TIME);
+        // then
+        assertThat(suggestions)
+                .extracting(EventSuggestionDTO::getType, EventSuggestionDTO::getDisplayName, EventSuggestionDTO::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(SuggestionType.EVENT, "Łódź JUG", "Łódź JUG"),
+                        tuple(SuggestionType.CITY, "Łódź", "lodz")
+                );
+    }
+
+    @Test
+    void shouldRankSuggestionsByUpcomingEvents() {
+        // given
+        eventSuggestionIndex.index(1L, "Kotlin Meetup", "Kraków", CURRENT_DATE_TIME.plusDays(1L));
+        eventSuggestionIndex.index(2L, "Kotlin Meetup", "Kraków", CURRENT_DATE_TIME.plusDays(2L));
+        eventSuggestionIndex.index(3L, "Kotlin Conference", "Kraków", CURRENT_DATE_TIME.plusDays(3L));
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("k", CURRENT_DATE_TIME);
+        // then
+        assertThat(suggestions)
+                .extracting(EventSuggestionDTO::getDisplayName, EventSuggestionDTO::getUpcomingEvents)
+                .containsExactly(
+                        tuple("Kraków", 3L),
+                        tuple("Kotlin Meetup", 2L),
+                        tuple("Kotlin Conference", 1L)
+                );
+    }
+
+    @Test
+    void shouldMatchPrefixOfAnyWord() {
+        // given
+        eventSuggestionIndex.index(1L, "Java Dev Talks", "Rzeszów", CURRENT_DATE_TIME.plusDays(1L));
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("TAL", CURRENT_DATE_TIME);
+        // then
+        assertThat(suggestions).extracting(EventSuggestionDTO::getDisplayName).containsExactly("Java Dev Talks");
+    }
+
+    @Test
+    void shouldNotSuggestPastEvents() {
+        // given
+        eventSuggestionIndex.index(1L, "Java Dev Talks", "Rzeszów", CURRENT_DATE_TIME.minusDays(1L));
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("java", CURRENT_DATE_TIME);
+        // then
+        assertThat(suggestions).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceSuggestionsOfUpdatedEvent() {
+        // given
+        eventSuggestionIndex.index(1L, "Java Dev Talks", "Rzeszów", CURRENT_DATE_TIME.plusDays(1L));
+        // when
+        eventSuggestionIndex.index(1L, "Kotlin Dev Talks", "Kraków", CURRENT_DATE_TIME.plusDays(1L));
+        // then
+        assertThat(eventSuggestionIndex.suggest("java", CURRENT_DATE_TIME)).isEmpty();
+        assertThat(eventSuggestionIndex.suggest("rze", CURRENT_DATE_TIME)).isEmpty();
+        assertThat(eventSuggestionIndex.suggest("dev", CURRENT_DATE_TIME))
+                .extracting(EventSuggestionDTO::getDisplayName)
+                .containsExactly("Kotlin Dev Talks");
+    }
+
+    @Test
+    void shouldRemoveEventsOnceTheyArePast() {
+        // given
+        eventSuggestionIndex.index(1L, "Java Dev Talks", "Rzeszów", CURRENT_DATE_TIME.plusDays(1L));
+        eventSuggestionIndex.index(2L, "Java Meetup", "Rzeszów", CURRENT_DATE_TIME.plusDays(2L));
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("rze", CURRENT_DATE_TIME.plusDays(1L));
+        // then
+        assertThat(suggestions)
+                .extracting(EventSuggestionDTO::getDisplayName, EventSuggestionDTO::getUpcomingEvents)
+                .containsExactly(tuple("Rzeszów", 1L));
+        assertThat(eventSuggestionIndex.suggest("talks", CURRENT_DATE_TIME.plusDays(1L))).isEmpty();
+        assertThat(eventSuggestionIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnAtMostTenTopSuggestions() {
+        // given
+        for (long id = 1; id <= 12; id++) {
+            for (long event = 0; event < id; event++) {
+                eventSuggestionIndex.index(id * 100 + event, "Java Meetup #" + id, "Rzeszów", CURRENT_DATE_TIME.plusDays(id));
+            }
+        }
+        // when
+        List<EventSuggestionDTO> suggestions = eventSuggestionIndex.suggest("java", CURRENT_DATE_TIME);
+        // then
+        assertThat(suggestions)
+                .extracting(EventSuggestionDTO::getDisplayName)
+                .containsExactly("Java Meetup #12", "Java Meetup #11", "Java Meetup #10", "Java Meetup #9", "Java Meetup #8",
+                        "Java Meetup #7", "Java Meetup #6", "Java Meetup #5", "Java Meetup #4", "Java Meetup #3");
+    }
+}
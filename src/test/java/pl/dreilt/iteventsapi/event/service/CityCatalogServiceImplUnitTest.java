@@ -0,0 +1,104 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import pl.dreilt.iteventsapi.event.dto.CityDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCityDTO;
+import pl.dreilt.iteventsapi.event.exception.CityNotFoundException;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CityCatalogServiceImplUnitTest {
+    private EventRepository eventRepository;
+    private CityCatalogServiceImpl cityCatalogServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = Mockito.mock(EventRepository.class);
+        cityCatalogServiceImpl = new CityCatalogServiceImpl(eventRepository);
+    }
+
+    @Test
+    void shouldReturnAllCities() {
+        // given
+        when(eventRepository.findAllEventCities()).thenReturn(List.of(
+                new EventCityDTO("Rzeszów", 2L),
+                new EventCityDTO("Rzeszow", 1L),
+                new EventCityDTO("Kraków", 1L)
+        ));
+        // when
+        List<CityDTO> returnedCities = cityCatalogServiceImpl.findAllCities();
+        // then
+        assertThat(returnedCities).hasSize(2);
+    }
+
+    @Test
+    void shouldReturnCityDisplayNameWithoutReloadingCatalog() {
+        // given
+        when(eventRepository.findAllEventCities()).thenReturn(List.of(
+                new EventCityDTO("Rzeszów", 1L),
+                new EventCityDTO("Kraków", 1L)
+        ));
+        // when
+        String rzeszow = cityCatalogServiceImpl.getCityDisplayName("rzeszow");
+        String krakow = cityCatalogServiceImpl.getCityDisplayName("krakow");
+        // then
+        assertThat(rzeszow).isEqualTo("Rzeszów");
+        assertThat(krakow).isEqualTo("Kraków");
+        verify(eventRepository, times(1)).findAllEventCities();
+    }
+
+    @Test
+    void shouldThrowExceptionIfCityNotFoundWithoutReloadingCatalog() {
+        // given
+        when(eventRepository.findAllEventCities()).thenReturn(List.of(
+                new EventCityDTO("Rzeszów", 1L)
+        ));
+        cityCatalogServiceImpl.afterSingletonsInstantiated();
+        // when
+        // then
+        assertThatThrownBy(() -> cityCatalogServiceImpl.getCityDisplayName("gdansk"))
+                .isInstanceOf(CityNotFoundException.class)
+                .hasMessage("City with name gdansk not found");
+        assertThatThrownBy(() -> cityCatalogServiceImpl.getCityDisplayName("xyz"))
+                .isInstanceOf(CityNotFoundException.class);
+        verify(eventRepository, times(1)).findAllEventCities();
+    }
+
+    @Test
+    void shouldUpdateCitiesIncrementally() {
+        // given
+        when(eventRepository.findAllEventCities()).thenReturn(List.of(
+                new EventCityDTO("Rzeszów", 2L)
+        ));
+        // when
+        cityCatalogServiceImpl.addEvent("Kraków");
+        cityCatalogServiceImpl.moveEvent("Rzeszów", "Kraków");
+        // then
+        assertThat(cityCatalogServiceImpl.getCityDisplayName("rzeszow")).isEqualTo("Rzeszów");
+        assertThat(cityCatalogServiceImpl.getCityDisplayName("krakow")).isEqualTo("Kraków");
+        verify(eventRepository, times(1)).findAllEventCities();
+    }
+
+    @Test
+    void shouldRemoveCityWithoutEvents() {
+        // given
+        when(eventRepository.findAllEventCities()).thenReturn(List.of(
+                new EventCityDTO("Rzeszów", 1L)
+        ));
+        // when
+        cityCatalogServiceImpl.moveEvent("Rzeszów", "Kraków");
+        // then
+        assertThat(cityCatalogServiceImpl.findAllCities())
+                .extracting(CityDTO::getDisplayName)
+                .containsExactly("Kraków");
+    }
+}
@@ -0,0 +1,113 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.CreateEventDTOCreator;
+import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.event.dto.EventEditDTO;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
+
+@SpringBootTest(properties = {
+        "spring.cache.type=jcache",
+        "spring.cache.jcache.config=classpath:ehcache.xml",
+        "spring.cache.jcache.provider=org.ehcache.jsr107.EhcacheCachingProvider"
+})
+class EventCountServiceImplIntegrationTest {
+    static final LocalDateTime DATE_TIME = LocalDateTime.now().withNano(0);
+    @Autowired
+    private EventCountService eventCountService;
+    @Autowired
+    private OrganizerEventService organizerEventService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    private AppUser organizer;
+    private Long eventId;
+    private Cache eventCountCache;
+
+    @BeforeEach
+    void setUp() {
+        organizer = transactionTemplate.execute(status -> appUserRepository.save(
+                AppUserCreator.create("Jan", "Nowak", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()), ROLE_ORGANIZER)));
+        eventCountCache = cacheManager.getCache("eventCount");
+        eventCountCache.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (eventId != null) {
+                eventRepository.deleteById(eventId);
+            }
+            appUserRepository.delete(organizer);
+            profileImageRepository.delete(organizer.getProfileImage());
+        });
+        eventCountCache.clear();
+    }
+
+    @Test
+    void shouldEvictEventCountsWhenEventIsCreated() {
+        // given
+        long upcomingEvents = eventCountService.countAllUpcomingEvents(DATE_TIME);
+        assertThat(eventCountCache.get("upcoming")).isNotNull();
+        // when
+        eventId = createEvent();
+        // then
+        assertThat(eventCountCache.get("upcoming")).isNull();
+        assertThat(eventCountService.countAllUpcomingEvents(DATE_TIME)).isEqualTo(upcomingEvents + 1);
+    }
+
+    @Test
+    void shouldEvictEventCountsAfterCommitWhenEventCityOrDateChanges() {
+        // given
+        eventId = createEvent();
+        eventCountService.countUpcomingEventsByCity("Rzeszów", DATE_TIME);
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            organizerEventService.updateEvent(organizer, eventId, EventEditDTO.builder().city("Kraków").build());
+            assertThat(eventCountCache.get("upcoming:Rzeszów")).isNotNull();
+        });
+        // then
+        assertThat(eventCountCache.get("upcoming:Rzeszów")).isNull();
+        eventCountService.countUpcomingEventsByCity("Kraków", DATE_TIME);
+        organizerEventService.updateEvent(organizer, eventId, EventEditDTO.builder().dateTime(DATE_TIME.plusYears(1L).toString()).build());
+        assertThat(eventCountCache.get("upcoming:Kraków")).isNull();
+    }
+
+    @Test
+    void shouldKeepEventCountsWhenOtherEventFieldsChange() {
+        // given
+        eventId = createEvent();
+        eventCountService.countAllUpcomingEvents(DATE_TIME);
+        // when
+        organizerEventService.updateEvent(organizer, eventId, EventEditDTO.builder().name("Java Dev Talks #2").build());
+        // then
+        assertThat(eventCountCache.get("upcoming")).isNotNull();
+    }
+
+    private Long createEvent() {
+        return transactionTemplate.execute(status -> organizerEventService.createEvent(organizer, CreateEventDTOCreator.create(DATE_TIME)).getId());
+    }
+}
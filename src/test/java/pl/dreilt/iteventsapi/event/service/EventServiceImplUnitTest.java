@@ -6,23 +6,35 @@ import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.core.CursorPage;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.EventCardDTOCreator;
 import pl.dreilt.iteventsapi.creator.EventCreator;
 import pl.dreilt.iteventsapi.event.dto.CityDTO;
 import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.EventCursor;
 import pl.dreilt.iteventsapi.event.dto.EventDTO;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.search.EventFacetIndex;
+import pl.dreilt.iteventsapi.event.search.EventSearchIndex;
+import pl.dreilt.iteventsapi.event.search.EventSuggestionIndex;
+import pl.dreilt.iteventsapi.eventimage.service.EventImageService;
+import pl.dreilt.iteventsapi.profileimage.service.ProfileImageService;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
 import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_USER;
@@ -31,36 +43,26 @@ class EventServiceImplUnitTest {
     static final LocalDateTime DATE_TIME = LocalDateTime.now().withHour(18).withMinute(0);
     static final PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.fromString("ASC"), "dateTime"));
     private EventRepository eventRepository;
+    private EventCountService eventCountService;
+    private CityCatalogService cityCatalogService;
+    private EventImageService eventImageService;
+    private ProfileImageService profileImageService;
+    private EventSearchIndex eventSearchIndex;
+    private EventFacetIndex eventFacetIndex;
+    private EventSuggestionIndex eventSuggestionIndex;
     private EventServiceImpl eventServiceImpl;
 
     @BeforeEach
     void setUp() {
         eventRepository = Mockito.mock(EventRepository.class);
-        eventServiceImpl = new EventServiceImpl(eventRepository);
-    }
-
-    @Test
-    void shouldReturnFirst10UpcomingEvents() {
-        // given
-        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L), organizer)
-        );
-        when(eventRepository.findFirst10EventsByOrderByDateTimeAsc()).thenReturn(events);
-        // when
-        List<EventCardDTO> returnedEvents = eventServiceImpl.findFirst10UpcomingEvents();
-        // then
-        assertThat(returnedEvents).isNotEmpty();
-        assertThat(returnedEvents).hasSize(10);
+        eventCountService = Mockito.mock(EventCountService.class);
+        cityCatalogService = Mockito.mock(CityCatalogService.class);
+        eventImageService = Mockito.mock(EventImageService.class);
+        profileImageService = Mockito.mock(ProfileImageService.class);
+        eventSearchIndex = new EventSearchIndex();
+        eventFacetIndex = new EventFacetIndex(eventRepository, cityCatalogService);
+        eventSuggestionIndex = new EventSuggestionIndex(new CityCatalogServiceImpl(eventRepository));
+        eventServiceImpl = new EventServiceImpl(eventRepository, eventCountService, cityCatalogService, eventImageService, profileImageService, eventSearchIndex, eventFacetIndex, eventSuggestionIndex);
     }
 
     @Test
@@ -71,7 +73,7 @@ class EventServiceImplUnitTest {
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
         // when
-        EventDTO returnedEvent = eventServiceImpl.findEvent(event.getId(), user);
+        EventDTO returnedEvent = eventServiceImpl.findEvent(event.getId(), user, false);
         // then
         assertThat(returnedEvent.getId()).isEqualTo(event.getId());
         assertThat(returnedEvent.getName()).isEqualTo(event.getName());
@@ -80,10 +82,10 @@ class EventServiceImplUnitTest {
     @Test
     void shouldReturnAllCities() {
         // given
-        List<String> cities = List.of(
-                "Rzeszów", "Kraków", "Warszawa"
+        List<CityDTO> cities = List.of(
+                new CityDTO(), new CityDTO(), new CityDTO()
         );
-        when(eventRepository.findAllCities()).thenReturn(cities);
+        when(cityCatalogService.findAllCities()).thenReturn(cities);
         // when
         List<CityDTO> returnedCities = eventServiceImpl.findAllCities();
         // then
@@ -95,24 +97,65 @@ class EventServiceImplUnitTest {
     void shouldReturnAllUpcomingEvents() {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L))
         );
-        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new SliceImpl<>(events, pageRequest, true));
+        when(eventCountService.countAllUpcomingEvents(DATE_TIME)).thenReturn(25L);
         // when
         Page<EventCardDTO> returnedEvents = eventServiceImpl.findAllUpcomingEvents(DATE_TIME, pageRequest);
         // then
         assertThat(returnedEvents).isNotEmpty();
         assertThat(returnedEvents).hasSize(10);
+        assertThat(returnedEvents.getTotalElements()).isEqualTo(25L);
+        assertThat(returnedEvents.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnAllUpcomingEventsSliceWithoutCounting() {
+        // given
+        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L))
+        );
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new SliceImpl<>(events, pageRequest, false));
+        // when
+        Slice<EventCardDTO> returnedEvents = eventServiceImpl.findAllUpcomingEventsSlice(DATE_TIME, pageRequest);
+        // then
+        assertThat(returnedEvents).hasSize(2);
+        assertThat(returnedEvents.hasNext()).isFalse();
+        verifyNoInteractions(eventCountService);
+    }
+
+    @Test
+    void shouldReturnAllUpcomingEventsAfterCursor() {
+        // given
+        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
+        EventCursor cursor = new EventCursor(DATE_TIME, 1L);
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L))
+        );
+        when(eventRepository.findAllUpcomingEventsAfter(eq(DATE_TIME), eq(DATE_TIME), eq(1L), any())).thenReturn(events);
+        // when
+        CursorPage<EventCardDTO> returnedEvents = eventServiceImpl.findAllUpcomingEvents(DATE_TIME, cursor, 2);
+        // then
+        assertThat(returnedEvents.getContent()).hasSize(2);
+        assertThat(returnedEvents.isHasNext()).isTrue();
+        EventCursor nextCursor = EventCursor.decode(returnedEvents.getNextCursor());
+        assertThat(nextCursor.getDateTime()).isEqualTo(DATE_TIME.plusWeeks(2L));
+        assertThat(nextCursor.getId()).isEqualTo(3L);
     }
 
     @Test
@@ -120,17 +163,17 @@ class EventServiceImplUnitTest {
         // given
         String city = "Rzeszów";
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L))
         );
         when(eventRepository.findUpcomingEventsByCity(city, DATE_TIME, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -144,17 +187,17 @@ class EventServiceImplUnitTest {
     void shouldReturnAllPastEvents() {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME, organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(9L))
         );
         when(eventRepository.findAllPastEvents(DATE_TIME, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -169,17 +212,17 @@ class EventServiceImplUnitTest {
         // given
         String city = "Rzeszów";
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME, organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(9L))
         );
         when(eventRepository.findPastEventsByCity(city, DATE_TIME, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -196,10 +239,13 @@ class EventServiceImplUnitTest {
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski", ROLE_USER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.addParticipant(event.getId(), user.getId())).thenReturn(1);
         // when
-        eventServiceImpl.addUserToEventParticipantsList(user, event.getId());
+        EventDTO returnedEvent = eventServiceImpl.addUserToEventParticipantsList(user, event.getId());
         // then
-        verify(eventRepository, Mockito.times(1)).findById(eq(event.getId()));
+        verify(eventRepository, Mockito.times(1)).addParticipant(eq(event.getId()), eq(user.getId()));
+        assertThat(returnedEvent.isCurrentUserIsParticipant()).isTrue();
+        assertThat(event.getParticipants()).isEmpty();
     }
 
     @Test
@@ -207,33 +253,31 @@ class EventServiceImplUnitTest {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
-        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
-        event.addParticipant(user);
-        AppUser user2 = AppUserCreator.create(3L, "Patryk", "Kowalski");
-        event.addParticipant(user2);
+        AppUser user = AppUserCreator.create(3L, "Patryk", "Kowalski");
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.removeParticipant(event.getId(), user.getId())).thenReturn(1);
         // when
-        eventServiceImpl.removeUserFromEventParticipantsList(user2, event.getId());
+        EventDTO returnedEvent = eventServiceImpl.removeUserFromEventParticipantsList(user, event.getId());
         // then
-        assertThat(event.getParticipants()).isNotEmpty();
-        assertThat(event.getParticipants()).hasSize(1);
+        verify(eventRepository, Mockito.times(1)).removeParticipant(eq(event.getId()), eq(user.getId()));
+        assertThat(returnedEvent.isCurrentUserIsParticipant()).isFalse();
     }
 
     @Test
     void shouldGetUserEvents() {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L))
         );
         when(eventRepository.findUserEvents(organizer, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -243,22 +287,39 @@ class EventServiceImplUnitTest {
         assertThat(returnedEvents).hasSize(10);
     }
 
+    @Test
+    void shouldGetUserPastEventsBeforeCursor() {
+        // given
+        AppUser user = AppUserCreator.create(4L, "Jan", "Kowalski", ROLE_USER);
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.minusWeeks(1L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.minusWeeks(2L))
+        );
+        when(eventRepository.findUserPastEventsBefore(eq(user), eq(DATE_TIME), eq(DATE_TIME), eq(Long.MIN_VALUE), any())).thenReturn(events);
+        // when
+        CursorPage<EventCardDTO> returnedEvents = eventServiceImpl.findUserPastEvents(user, DATE_TIME, null, 2);
+        // then
+        assertThat(returnedEvents.getContent()).hasSize(2);
+        assertThat(returnedEvents.isHasNext()).isFalse();
+        assertThat(returnedEvents.getNextCursor()).isNull();
+    }
+
     @Test
     void shouldGetUserEventsByCity() {
         // given
         String city = "Rzeszów";
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer),
-                EventCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #3", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #4", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #5", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #6", DATE_TIME.plusWeeks(5L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #7", DATE_TIME.plusWeeks(6L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #8", DATE_TIME.plusWeeks(7L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #9", DATE_TIME.plusWeeks(8L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #10", DATE_TIME.plusWeeks(9L))
         );
         when(eventRepository.findUserEventsByCity(organizer, city, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -267,4 +328,36 @@ class EventServiceImplUnitTest {
         assertThat(returnedEvents).isNotEmpty();
         assertThat(returnedEvents).hasSize(10);
     }
+
+    @Test
+    void shouldReturnSearchedEventsInRankingOrder() {
+        // given
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(1L);
+        eventSearchIndex.index(1L, "Java Dev Talks #1", "Spotkanie rzeszowskiej grupy pasjonatów języka Java.");
+        eventSearchIndex.index(2L, "Kotlin Meetup", "Spotkanie pasjonatów języka Kotlin. Będzie też trochę o Javie.");
+        eventSearchIndex.index(3L, "Spring Boot Workshop", "Warsztaty ze Spring Boot dla programistów Java.");
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        when(eventRepository.findEventCardsByIds(List.of(1L, 3L))).thenReturn(List.of(
+                EventCardDTOCreator.create(3L, "Spring Boot Workshop", dateTime),
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", dateTime)
+        ));
+        // when
+        Page<EventCardDTO> returnedEvents = eventServiceImpl.searchEvents("java", pageRequest);
+        // then
+        assertThat(returnedEvents.getTotalElements()).isEqualTo(2);
+        assertThat(returnedEvents.getContent()).extracting(EventCardDTO::getId).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenSearchedPageIsOutOfRange() {
+        // given
+        eventSearchIndex.index(1L, "Java Dev Talks #1", "Spotkanie rzeszowskiej grupy pasjonatów języka Java.");
+        PageRequest pageRequest = PageRequest.of(1, 10);
+        // when
+        Page<EventCardDTO> returnedEvents = eventServiceImpl.searchEvents("java", pageRequest);
+        // then
+        assertThat(returnedEvents.getContent()).isEmpty();
+        assertThat(returnedEvents.getTotalElements()).isEqualTo(1);
+        verifyNoInteractions(eventRepository);
+    }
 }
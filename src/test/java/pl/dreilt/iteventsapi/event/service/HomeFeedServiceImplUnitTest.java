@@ -0,0 +1,87 @@
+package pl.dreilt.iteventsapi.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import pl.dreilt.iteventsapi.creator.EventCardDTOCreator;
+import pl.dreilt.iteventsapi.event.dto.EventCardDTO;
+import pl.dreilt.iteventsapi.event.dto.HomeFeedDTO;
+import pl.dreilt.iteventsapi.event.repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HomeFeedServiceImplUnitTest {
+    static final LocalDateTime DATE_TIME = LocalDateTime.now().withHour(18).withMinute(0);
+    static final PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "dateTime"));
+    private EventRepository eventRepository;
+    private HomeFeedServiceImpl homeFeedServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = Mockito.mock(EventRepository.class);
+        homeFeedServiceImpl = new HomeFeedServiceImpl(eventRepository);
+    }
+
+    @Test
+    void shouldReturnHomeFeedFromMemory() {
+        // given
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(2L))
+        );
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new SliceImpl<>(events, pageRequest, false));
+        // when
+        HomeFeedDTO firstHomeFeed = homeFeedServiceImpl.getHomeFeed(DATE_TIME);
+        HomeFeedDTO secondHomeFeed = homeFeedServiceImpl.getHomeFeed(DATE_TIME.plusSeconds(30L));
+        // then
+        assertThat(firstHomeFeed.getEvents()).hasSize(2);
+        assertThat(secondHomeFeed.getETag()).isEqualTo(firstHomeFeed.getETag());
+        verify(eventRepository, times(1)).findAllUpcomingEvents(any(LocalDateTime.class), any());
+    }
+
+    @Test
+    void shouldReloadHomeFeedWhenFirstEventStarts() {
+        // given
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusSeconds(10L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L))
+        );
+        List<EventCardDTO> remainingEvents = List.of(
+                EventCardDTOCreator.create(2L, "Java Dev Talks #2", DATE_TIME.plusWeeks(1L))
+        );
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new SliceImpl<>(events, pageRequest, false));
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME.plusSeconds(10L), pageRequest)).thenReturn(new SliceImpl<>(remainingEvents, pageRequest, false));
+        // when
+        HomeFeedDTO firstHomeFeed = homeFeedServiceImpl.getHomeFeed(DATE_TIME);
+        HomeFeedDTO secondHomeFeed = homeFeedServiceImpl.getHomeFeed(DATE_TIME.plusSeconds(10L));
+        // then
+        assertThat(secondHomeFeed.getEvents()).extracting(EventCardDTO::getId).containsExactly(2L);
+        assertThat(secondHomeFeed.getETag()).isNotEqualTo(firstHomeFeed.getETag());
+    }
+
+    @Test
+    void shouldReloadHomeFeedAfterEviction() {
+        // given
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #1", DATE_TIME.plusWeeks(1L))
+        );
+        when(eventRepository.findAllUpcomingEvents(DATE_TIME, pageRequest)).thenReturn(new SliceImpl<>(events, pageRequest, false));
+        // when
+        homeFeedServiceImpl.getHomeFeed(DATE_TIME);
+        homeFeedServiceImpl.evictHomeFeed();
+        homeFeedServiceImpl.getHomeFeed(DATE_TIME);
+        // then
+        verify(eventRepository, times(2)).findAllUpcomingEvents(eq(DATE_TIME), any());
+    }
+}
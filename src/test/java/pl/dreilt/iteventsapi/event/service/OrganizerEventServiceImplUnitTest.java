@@ -9,12 +9,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
 import pl.dreilt.iteventsapi.event.dto.*;
 import pl.dreilt.iteventsapi.creator.*;
 import pl.dreilt.iteventsapi.event.exception.EventNotFoundException;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.event.repository.EventRepository;
+import pl.dreilt.iteventsapi.event.search.EventFacetIndex;
+import pl.dreilt.iteventsapi.event.search.EventSearchIndex;
+import pl.dreilt.iteventsapi.event.search.EventSuggestionIndex;
 import pl.dreilt.iteventsapi.eventimage.service.EventImageService;
 
 import java.io.IOException;
@@ -41,13 +46,25 @@ class OrganizerEventServiceImplUnitTest {
     static final PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.fromString("ASC"), "dateTime"));
     private EventRepository eventRepository;
     private EventImageService eventImageService;
+    private EventCountService eventCountService;
+    private CityCatalogService cityCatalogService;
+    private HomeFeedService homeFeedService;
+    private EventSearchIndex eventSearchIndex;
+    private EventFacetIndex eventFacetIndex;
+    private EventSuggestionIndex eventSuggestionIndex;
     private OrganizerEventServiceImpl organizerEventServiceImpl;
 
     @BeforeEach
     void setUp() {
         eventRepository = Mockito.mock(EventRepository.class);
         eventImageService = Mockito.mock(EventImageService.class);
-        organizerEventServiceImpl = new OrganizerEventServiceImpl(eventRepository, eventImageService);
+        eventCountService = Mockito.mock(EventCountService.class);
+        cityCatalogService = Mockito.mock(CityCatalogService.class);
+        homeFeedService = Mockito.mock(HomeFeedService.class);
+        eventSearchIndex = Mockito.mock(EventSearchIndex.class);
+        eventFacetIndex = Mockito.mock(EventFacetIndex.class);
+        eventSuggestionIndex = Mockito.mock(EventSuggestionIndex.class);
+        organizerEventServiceImpl = new OrganizerEventServiceImpl(eventRepository, eventImageService, eventCountService, cityCatalogService, homeFeedService, eventSearchIndex, eventFacetIndex, eventSuggestionIndex);
     }
 
     @Test
@@ -55,7 +72,7 @@ class OrganizerEventServiceImplUnitTest {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         CreateEventDTO newEventData = CreateEventDTOCreator.create(DATE_TIME);
-        when(eventImageService.createDefaultEventImage()).thenReturn(EventImageCreator.createDefaultEventImage(1L));
+        when(eventImageService.getDefaultEventImage()).thenReturn(EventImageCreator.createDefaultEventImage(1L));
         when(eventRepository.save(any(Event.class))).thenAnswer(i -> i.getArguments()[0]);
         // when
         organizerEventServiceImpl.createEvent(organizer, newEventData);
@@ -78,15 +95,21 @@ class OrganizerEventServiceImplUnitTest {
             );
             return true;
         }));
+        verify(eventCountService, times(1)).evictEventCounts();
+        verify(cityCatalogService, times(1)).addEvent(eq(newEventData.getCity()));
+        verify(homeFeedService, times(1)).evictHomeFeed();
+        verify(eventSearchIndex, times(1)).index(null, newEventData.getName(), newEventData.getDescription());
+        verify(eventFacetIndex, times(1)).evictEventFacets();
+        verify(eventSuggestionIndex, times(1)).index(eq(null), eq(newEventData.getName()), eq(newEventData.getCity()), any(LocalDateTime.class));
     }
 
     @Test
     void shouldReturnAllCities() {
         // given
-        List<String> cities = List.of(
-                "Rzeszów", "Kraków", "Warszawa"
+        List<CityDTO> cities = List.of(
+                new CityDTO(), new CityDTO(), new CityDTO()
         );
-        when(eventRepository.findAllCities()).thenReturn(cities);
+        when(cityCatalogService.findAllCities()).thenReturn(cities);
         // when
         List<CityDTO> returnedCities = organizerEventServiceImpl.findAllCities();
         // then
@@ -98,17 +121,17 @@ class OrganizerEventServiceImplUnitTest {
     void shouldReturnOrganizerEvents() {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #10", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(2L, "Java Dev Talks #9", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #7", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #6", DATE_TIME, organizer),
-                EventCreator.create(6L, "Java Dev Talks #5", DATE_TIME.minusWeeks(1L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #4", DATE_TIME.minusWeeks(2L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #3", DATE_TIME.minusWeeks(3L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #2", DATE_TIME.minusWeeks(4L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #1", DATE_TIME.minusWeeks(5L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #10", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #9", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #7", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #6", DATE_TIME),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #5", DATE_TIME.minusWeeks(1L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #4", DATE_TIME.minusWeeks(2L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #3", DATE_TIME.minusWeeks(3L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #2", DATE_TIME.minusWeeks(4L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #1", DATE_TIME.minusWeeks(5L))
         );
         when(eventRepository.findOrganizerEvents(organizer, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -123,17 +146,17 @@ class OrganizerEventServiceImplUnitTest {
         // given
         String city = "Rzeszów";
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
-        List<Event> events = List.of(
-                EventCreator.create(1L, "Java Dev Talks #10", DATE_TIME.plusWeeks(4L), organizer),
-                EventCreator.create(2L, "Java Dev Talks #9", DATE_TIME.plusWeeks(3L), organizer),
-                EventCreator.create(3L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L), organizer),
-                EventCreator.create(4L, "Java Dev Talks #7", DATE_TIME.plusWeeks(1L), organizer),
-                EventCreator.create(5L, "Java Dev Talks #6", DATE_TIME, organizer),
-                EventCreator.create(6L, "Java Dev Talks #5", DATE_TIME.minusWeeks(1L), organizer),
-                EventCreator.create(7L, "Java Dev Talks #4", DATE_TIME.minusWeeks(2L), organizer),
-                EventCreator.create(8L, "Java Dev Talks #3", DATE_TIME.minusWeeks(3L), organizer),
-                EventCreator.create(9L, "Java Dev Talks #2", DATE_TIME.minusWeeks(4L), organizer),
-                EventCreator.create(10L, "Java Dev Talks #1", DATE_TIME.minusWeeks(5L), organizer)
+        List<EventCardDTO> events = List.of(
+                EventCardDTOCreator.create(1L, "Java Dev Talks #10", DATE_TIME.plusWeeks(4L)),
+                EventCardDTOCreator.create(2L, "Java Dev Talks #9", DATE_TIME.plusWeeks(3L)),
+                EventCardDTOCreator.create(3L, "Java Dev Talks #8", DATE_TIME.plusWeeks(2L)),
+                EventCardDTOCreator.create(4L, "Java Dev Talks #7", DATE_TIME.plusWeeks(1L)),
+                EventCardDTOCreator.create(5L, "Java Dev Talks #6", DATE_TIME),
+                EventCardDTOCreator.create(6L, "Java Dev Talks #5", DATE_TIME.minusWeeks(1L)),
+                EventCardDTOCreator.create(7L, "Java Dev Talks #4", DATE_TIME.minusWeeks(2L)),
+                EventCardDTOCreator.create(8L, "Java Dev Talks #3", DATE_TIME.minusWeeks(3L)),
+                EventCardDTOCreator.create(9L, "Java Dev Talks #2", DATE_TIME.minusWeeks(4L)),
+                EventCardDTOCreator.create(10L, "Java Dev Talks #1", DATE_TIME.minusWeeks(5L))
         );
         when(eventRepository.findOrganizerEventsByCity(organizer, city, pageRequest)).thenReturn(new PageImpl<>(events, pageRequest, events.size()));
         // when
@@ -162,6 +185,7 @@ class OrganizerEventServiceImplUnitTest {
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventImageService.readEventImage(event.getEventImage())).thenReturn(event.getEventImage().getFileData());
         // when
         EventEditDTO returnedEventToEdit = organizerEventServiceImpl.findEventToEdit(organizer, event.getId());
         // then
@@ -198,6 +222,7 @@ class OrganizerEventServiceImplUnitTest {
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventImageService.readEventImage(event.getEventImage())).thenReturn(event.getEventImage().getFileData());
         EventEditDTO newEventData = EventEditDTOCreator.create(DATE_TIME);
         // when
         organizerEventServiceImpl.updateEvent(organizer, event.getId(), newEventData);
@@ -205,19 +230,43 @@ class OrganizerEventServiceImplUnitTest {
         verify(eventRepository, times(1)).findById(eq(event.getId()));
     }
 
+    @Test
+    void shouldMoveEventInCityCatalogOnlyAfterCommit() throws IOException {
+        // given
+        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
+        Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventImageService.readEventImage(event.getEventImage())).thenReturn(event.getEventImage().getFileData());
+        EventEditDTO newEventData = EventEditDTOCreator.create(DATE_TIME);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            organizerEventServiceImpl.updateEvent(organizer, event.getId(), newEventData);
+            // then
+            verify(cityCatalogService, never()).moveEvent(any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cityCatalogService, times(1)).moveEvent(eq("Rzeszów"), eq("Updated test city"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void shouldReturnEventParticipants() {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
-        event.addParticipant(AppUserCreator.create(2L, "Jan", "Kowalski"));
-        event.addParticipant(AppUserCreator.create(3L, "Patryk", "Kowalski"));
+        List<ParticipantDTO> participants = List.of(
+                new ParticipantDTO(2L, "Jan", "Kowalski"),
+                new ParticipantDTO(3L, "Patryk", "Kowalski")
+        );
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.findEventParticipants(event.getId(), pageRequest)).thenReturn(new PageImpl<>(participants, pageRequest, 2));
         // when
-        Page<ParticipantDTO> participants = organizerEventServiceImpl.findEventParticipants(organizer, event.getId(), pageRequest);
+        Page<ParticipantDTO> returnedParticipants = organizerEventServiceImpl.findEventParticipants(organizer, event.getId(), pageRequest);
         // then
-        assertThat(participants).isNotEmpty();
-        assertThat(participants).hasSize(2);
+        assertThat(returnedParticipants).isNotEmpty();
+        assertThat(returnedParticipants).hasSize(2);
     }
 
     @Test
@@ -225,15 +274,16 @@ class OrganizerEventServiceImplUnitTest {
         // given
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
-        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
-        event.addParticipant(user);
-        AppUser user2 = AppUserCreator.create(3L, "Patryk", "Kowalski");
-        event.addParticipant(user2);
+        List<ParticipantDTO> participants = List.of(
+                new ParticipantDTO(2L, "Jan", "Kowalski")
+        );
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.removeParticipant(event.getId(), 3L)).thenReturn(1);
+        when(eventRepository.findEventParticipants(event.getId(), pageRequest)).thenReturn(new PageImpl<>(participants, pageRequest, 1));
         // when
-        organizerEventServiceImpl.removeParticipant(organizer, event.getId(), user2.getId(), pageRequest);
+        Page<ParticipantDTO> returnedParticipants = organizerEventServiceImpl.removeParticipant(organizer, event.getId(), 3L, pageRequest);
         // then
-        assertThat(event.getParticipants()).isNotEmpty();
-        assertThat(event.getParticipants()).hasSize(1);
+        verify(eventRepository, times(1)).removeParticipant(eq(event.getId()), eq(3L));
+        assertThat(returnedParticipants).hasSize(1);
     }
 }
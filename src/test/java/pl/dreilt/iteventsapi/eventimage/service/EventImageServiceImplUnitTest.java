@@ -4,22 +4,26 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.web.multipart.MultipartFile;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.core.ContentHash;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
 import pl.dreilt.iteventsapi.creator.EventCreator;
 import pl.dreilt.iteventsapi.creator.EventImageCreator;
 import pl.dreilt.iteventsapi.event.model.Event;
 import pl.dreilt.iteventsapi.eventimage.model.EventImage;
 import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.image.service.ImageUploadService;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
@@ -28,30 +32,58 @@ import static pl.dreilt.iteventsapi.appuser.model.Role.ROLE_ORGANIZER;
 class EventImageServiceImplUnitTest {
     static final LocalDateTime DATE_TIME = LocalDateTime.now().withHour(18).withMinute(0);
     private EventImageRepository eventImageRepository;
+    private ImageStorage imageStorage;
+    private ImageUploadService imageUploadService;
+    private PlatformTransactionManager transactionManager;
     private EventImageServiceImpl eventImageServiceImpl;
 
     @BeforeEach
     void setUp() {
         eventImageRepository = Mockito.mock(EventImageRepository.class);
-        eventImageServiceImpl = new EventImageServiceImpl(eventImageRepository);
+        imageStorage = Mockito.mock(ImageStorage.class);
+        imageUploadService = Mockito.mock(ImageUploadService.class);
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        eventImageServiceImpl = new EventImageServiceImpl(eventImageRepository, imageStorage, imageUploadService, transactionManager);
     }
 
     @Test
-    void shouldReturnSavedDefaultEventImage() {
+    void shouldSaveDefaultEventImageOnlyOnce() {
         // given
-        when(eventImageRepository.save(any(EventImage.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(eventImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()).thenReturn(Optional.empty());
+        when(eventImageRepository.save(any(EventImage.class))).thenAnswer(i -> {
+            EventImage savedEventImage = i.getArgument(0);
+            savedEventImage.setId(1L);
+            return savedEventImage;
+        });
         // when
-        EventImage createdDefaultEventImage = eventImageServiceImpl.createDefaultEventImage();
+        eventImageServiceImpl.getDefaultEventImage();
+        eventImageServiceImpl.getDefaultEventImage();
         // then
-        verify(eventImageRepository, times(1)).save(argThat((EventImage savedDefaultEventImage) -> {
+        verify(eventImageRepository, times(1)).save(argThat((savedEventImage) -> {
             Assertions.assertAll("Testing saved default event image",
-                    () -> assertNull(savedDefaultEventImage.getId()),
-                    () -> assertEquals(createdDefaultEventImage.getFileName(), savedDefaultEventImage.getFileName()),
-                    () -> assertEquals(createdDefaultEventImage.getFileType(), savedDefaultEventImage.getFileType()),
-                    () -> assertEquals(createdDefaultEventImage.getFileData(), savedDefaultEventImage.getFileData())
+                    () -> assertThat(savedEventImage.isDefaultImage()).isTrue(),
+                    () -> assertThat(savedEventImage.getFileType()).isEqualTo("image/png"),
+                    () -> assertThat(savedEventImage.getFileHash()).isNotNull()
             );
             return true;
         }));
+        verify(eventImageRepository, times(2)).getReferenceById(1L);
+        verify(transactionManager, times(1)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void shouldReturnExistingDefaultEventImage() {
+        // given
+        EventImage defaultEventImage = EventImageCreator.createDefaultEventImage(3L);
+        defaultEventImage.setDefaultImage(true);
+        when(eventImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()).thenReturn(Optional.of(defaultEventImage));
+        // when
+        eventImageServiceImpl.getDefaultEventImage();
+        // then
+        verify(eventImageRepository, never()).save(any(EventImage.class));
+        verify(eventImageRepository, times(1)).getReferenceById(3L);
     }
 
     @Test
@@ -60,12 +92,55 @@ class EventImageServiceImplUnitTest {
         AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
         Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
         MultipartFile newEventImageFile = EventImageCreator.createNewEventImageFile();
+        when(imageUploadService.upload(eq(newEventImageFile), anySet())).thenReturn(storedImage(newEventImageFile));
         // when
         Optional<EventImage> updatedEventImage = eventImageServiceImpl.updateEventImage(event, newEventImageFile);
         // then
         assertThat(updatedEventImage.isPresent()).isTrue();
         assertThat(updatedEventImage.get().getFileName()).isEqualTo(newEventImageFile.getOriginalFilename());
         assertThat(updatedEventImage.get().getFileType()).isEqualTo(newEventImageFile.getContentType());
-        assertThat(updatedEventImage.get().getFileData()).isEqualTo(newEventImageFile.getBytes());
+        assertThat(updatedEventImage.get().getFileHash()).isEqualTo(ContentHash.sha256(newEventImageFile.getBytes()));
+        assertThat(updatedEventImage.get().getFileSize()).isEqualTo(newEventImageFile.getSize());
+    }
+
+    @Test
+    void shouldCopyDefaultEventImageOnUpdate() throws IOException {
+        // given
+        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
+        Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
+        EventImage defaultEventImage = event.getEventImage();
+        defaultEventImage.setDefaultImage(true);
+        byte[] defaultEventImageData = defaultEventImage.getFileData();
+        MultipartFile newEventImageFile = EventImageCreator.createNewEventImageFile();
+        when(imageUploadService.upload(eq(newEventImageFile), anySet())).thenReturn(storedImage(newEventImageFile));
+        when(eventImageRepository.save(any(EventImage.class))).thenAnswer(i -> i.getArguments()[0]);
+        // when
+        Optional<EventImage> updatedEventImage = eventImageServiceImpl.updateEventImage(event, newEventImageFile);
+        // then
+        assertThat(updatedEventImage.isPresent()).isTrue();
+        assertThat(updatedEventImage.get()).isNotSameAs(defaultEventImage);
+        assertThat(updatedEventImage.get().isDefaultImage()).isFalse();
+        assertThat(updatedEventImage.get().getFileHash()).isEqualTo(ContentHash.sha256(newEventImageFile.getBytes()));
+        assertThat(defaultEventImage.getFileData()).isSameAs(defaultEventImageData);
+        verify(eventImageRepository, times(1)).save(updatedEventImage.get());
+    }
+
+    @Test
+    void shouldNotUpdateUnchangedEventImage() throws IOException {
+        // given
+        AppUser organizer = AppUserCreator.create(4L, "Jan", "Nowak", ROLE_ORGANIZER);
+        Event event = EventCreator.create(1L, "Java Dev Talks #1", DATE_TIME, organizer);
+        MultipartFile newEventImageFile = EventImageCreator.createNewEventImageFile();
+        event.getEventImage().setFileData(newEventImageFile.getBytes());
+        when(imageUploadService.upload(eq(newEventImageFile), anySet())).thenReturn(storedImage(newEventImageFile));
+        // when
+        Optional<EventImage> updatedEventImage = eventImageServiceImpl.updateEventImage(event, newEventImageFile);
+        // then
+        assertThat(updatedEventImage).isEmpty();
+        verify(eventImageRepository, never()).save(any(EventImage.class));
+    }
+
+    private static StoredImage storedImage(MultipartFile file) throws IOException {
+        return new StoredImage(ContentHash.sha256(file.getBytes()), file.getSize());
     }
 }
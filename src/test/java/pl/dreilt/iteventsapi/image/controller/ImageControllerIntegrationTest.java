@@ -0,0 +1,181 @@
+package pl.dreilt.iteventsapi.image.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dreilt.iteventsapi.creator.EventImageCreator;
+import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.eventimage.model.EventImage;
+import pl.dreilt.iteventsapi.eventimage.repository.EventImageRepository;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.processing.ImageVariantGenerator;
+import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageControllerIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventImageRepository eventImageRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+
+    @Test
+    @Transactional
+    void shouldReturnVersionedEventImageAsImmutable() throws Exception {
+        // given
+        EventImage eventImage = eventImageRepository.saveAndFlush(EventImageCreator.createDefaultEventImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/events/" + eventImage.getId())
+                .param("v", eventImage.getFileHash());
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + eventImage.getFileHash() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(content().bytes(eventImage.getFileData()));
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnNotModifiedWhenEventImageETagMatches() throws Exception {
+        // given
+        EventImage eventImage = eventImageRepository.saveAndFlush(EventImageCreator.createDefaultEventImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/events/" + eventImage.getId())
+                .param("v", eventImage.getFileHash())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + eventImage.getFileHash() + "\"");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @Transactional
+    void shouldRevalidateUnversionedProfileImage() throws Exception {
+        // given
+        ProfileImage profileImage = profileImageRepository.saveAndFlush(ProfileImageCreator.createDefaultProfileImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/profiles/" + profileImage.getId());
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + profileImage.getFileHash() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().bytes(profileImage.getFileData()));
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnRequestedRangeOfEventImage() throws Exception {
+        // given
+        EventImage eventImage = eventImageRepository.saveAndFlush(EventImageCreator.createDefaultEventImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/events/" + eventImage.getId())
+                .header(HttpHeaders.RANGE, "bytes=0-99");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-99/" + eventImage.getFileSize()))
+                .andExpect(content().bytes(Arrays.copyOfRange(eventImage.getFileData(), 0, 100)));
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnRangeNotSatisfiableWhenRangeStartsAfterEventImage() throws Exception {
+        // given
+        EventImage eventImage = eventImageRepository.saveAndFlush(EventImageCreator.createDefaultEventImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/events/" + eventImage.getId())
+                .header(HttpHeaders.RANGE, "bytes=" + eventImage.getFileSize() + "-");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + eventImage.getFileSize()));
+    }
+
+    @Test
+    @Transactional
+    void shouldServeEventImageVariantOnceItIsGenerated() throws Exception {
+        // given
+        EventImage eventImage = eventImageRepository.saveAndFlush(EventImageCreator.createDefaultEventImage());
+        String variantHash = ImageVariantGenerator.variantHash(eventImage.getFileHash(), ImageVariant.THUMBNAIL);
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/events/" + eventImage.getId())
+                .param("v", eventImage.getFileHash())
+                .param("size", "thumbnail");
+        MvcResult result = mockMvc.perform(request).andReturn();
+        for (int attempt = 0; attempt < 100 && !("\"" + variantHash + "\"").equals(result.getResponse().getHeader(HttpHeaders.ETAG)); attempt++) {
+            assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+            assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(eventImage.getFileData());
+            Thread.sleep(50);
+            result = mockMvc.perform(request).andReturn();
+        }
+        // then
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + variantHash + "\"");
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        BufferedImage variant = ImageIO.read(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()));
+        assertThat(variant.getWidth()).isLessThanOrEqualTo(ImageVariant.THUMBNAIL.getWidth());
+        assertThat(variant.getHeight()).isLessThanOrEqualTo(ImageVariant.THUMBNAIL.getHeight());
+    }
+
+    @Test
+    @Transactional
+    void shouldReturnNotFoundWhenImageSizeIsNotSupported() throws Exception {
+        // given
+        ProfileImage profileImage = profileImageRepository.saveAndFlush(ProfileImageCreator.createDefaultProfileImage());
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/profiles/" + profileImage.getId())
+                .param("size", "huge");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenImageDoesNotExist() throws Exception {
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get("/api/v1/images/profiles/999");
+        // then
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
+}
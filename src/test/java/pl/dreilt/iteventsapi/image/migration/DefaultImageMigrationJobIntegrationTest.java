@@ -0,0 +1,53 @@
+package pl.dreilt.iteventsapi.image.migration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+import pl.dreilt.iteventsapi.profileimage.service.ProfileImageService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DefaultImageMigrationJobIntegrationTest {
+    @Autowired
+    private DefaultImageMigrationJob defaultImageMigrationJob;
+    @Autowired
+    private ProfileImageService profileImageService;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional
+    void shouldCollapseDuplicatedDefaultImagesInBatches() {
+        // given
+        List<String> lastNames = List.of("Kowalski", "Nowak", "Wiśniewski", "Wójcik", "Kamiński");
+        for (String lastName : lastNames) {
+            AppUser user = AppUserCreator.create("Jan", lastName, profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage()));
+            appUserRepository.save(user);
+        }
+        appUserRepository.flush();
+        Long defaultProfileImageId = profileImageService.getDefaultProfileImage().getId();
+        // when
+        long collapsed = defaultImageMigrationJob.collapseAll();
+        // then
+        assertThat(collapsed).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM profile_image WHERE id <> ? AND file_hash = " +
+                "(SELECT file_hash FROM profile_image WHERE id = ?)", Long.class, defaultProfileImageId, defaultProfileImageId)).isZero();
+        List<Long> profileImageIds = jdbcTemplate.queryForList("SELECT pi.profile_image_id FROM app_user_profile_image pi " +
+                "JOIN app_user u ON u.id = pi.app_user_id WHERE u.first_name = 'Jan'", Long.class);
+        assertThat(profileImageIds).hasSize(5).containsOnly(defaultProfileImageId);
+    }
+}
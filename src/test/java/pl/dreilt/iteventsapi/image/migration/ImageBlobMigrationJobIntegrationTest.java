@@ -0,0 +1,46 @@
+package pl.dreilt.iteventsapi.image.migration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImageBlobMigrationJobIntegrationTest {
+    @Autowired
+    private ImageBlobMigrationJob imageBlobMigrationJob;
+    @Autowired
+    private ImageStorage imageStorage;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional
+    void shouldMoveImageBlobsToImageStorageInBatches() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            byte[] fileData = ("event image " + i).getBytes(StandardCharsets.UTF_8);
+            jdbcTemplate.update("INSERT INTO event_image (uuid, file_name, file_type, file_data) VALUES (?, ?, ?, ?)",
+                    UUID.randomUUID().toString(), "image_" + i + ".png", "image/png", fileData);
+        }
+        // when
+        long migrated = imageBlobMigrationJob.migrateAll();
+        // then
+        assertThat(migrated).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_image WHERE file_data IS NOT NULL", Long.class)).isZero();
+        Map<String, Object> image = jdbcTemplate.queryForMap("SELECT file_hash, file_size FROM event_image WHERE file_name = 'image_3.png'");
+        byte[] fileData = "event image 3".getBytes(StandardCharsets.UTF_8);
+        assertThat(image.get("file_hash")).isEqualTo(ContentHash.sha256(fileData));
+        assertThat(image.get("file_size")).isEqualTo((long) fileData.length);
+        assertThat(imageStorage.read(ContentHash.sha256(fileData))).isEqualTo(fileData);
+    }
+}
@@ -0,0 +1,53 @@
+package pl.dreilt.iteventsapi.image.processing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class ImageResizerUnitTest {
+
+    @Test
+    void shouldScaleImageDownToFitWithinBounds() throws IOException {
+        // given
+        byte[] image = createImage(480, 270, "png");
+        // when
+        byte[] resizedImage = ImageResizer.resize(new ByteArrayInputStream(image), "image/png", 100, 100);
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(resizedImage));
+        assertThat(result.getWidth()).isEqualTo(100);
+        assertThat(result.getHeight()).isEqualTo(56);
+    }
+
+    @Test
+    void shouldNotScaleUpSmallerImage() throws IOException {
+        // given
+        byte[] image = createImage(80, 40, "jpeg");
+        // when
+        byte[] resizedImage = ImageResizer.resize(new ByteArrayInputStream(image), "image/jpeg", 160, 90);
+        // then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(resizedImage));
+        assertThat(result.getWidth()).isEqualTo(80);
+        assertThat(result.getHeight()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenDataIsNotAnImage() {
+        // when
+        // then
+        assertThatThrownBy(() -> ImageResizer.resize(new ByteArrayInputStream(new byte[]{1, 2, 3}), "image/png", 100, 100))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] createImage(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
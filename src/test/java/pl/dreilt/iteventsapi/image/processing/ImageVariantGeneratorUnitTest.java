@@ -0,0 +1,97 @@
+package pl.dreilt.iteventsapi.image.processing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ImageVariantGeneratorUnitTest {
+    static final String FILE_HASH = "a".repeat(64);
+    private ImageStorage imageStorage;
+    private List<Runnable> scheduledTasks;
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @BeforeEach
+    void setUp() {
+        imageStorage = Mockito.mock(ImageStorage.class);
+        scheduledTasks = new ArrayList<>();
+        Executor executor = scheduledTasks::add;
+        imageVariantGenerator = new ImageVariantGenerator(imageStorage, executor);
+    }
+
+    @Test
+    void shouldStoreResizedVariantUnderVariantHash() throws IOException {
+        // given
+        when(imageStorage.read(FILE_HASH)).thenReturn(createImage(480, 270));
+        String variantHash = ImageVariantGenerator.variantHash(FILE_HASH, ImageVariant.CARD);
+        // when
+        imageVariantGenerator.generateAsync(FILE_HASH, "image/png", Set.of(ImageVariant.CARD));
+        // then
+        verify(imageStorage, never()).store(anyString(), any(byte[].class));
+        assertThat(scheduledTasks).hasSize(1);
+        scheduledTasks.get(0).run();
+        verify(imageStorage).store(eq(variantHash), argThat((byte[] variantData) -> {
+            try {
+                BufferedImage variant = ImageIO.read(new ByteArrayInputStream(variantData));
+                return variant.getWidth() == 320 && variant.getHeight() == 180;
+            } catch (IOException e) {
+                return false;
+            }
+        }));
+    }
+
+    @Test
+    void shouldNotScheduleVariantThatIsStoredOrPending() {
+        // given
+        when(imageStorage.exists(ImageVariantGenerator.variantHash(FILE_HASH, ImageVariant.AVATAR))).thenReturn(true);
+        // when
+        imageVariantGenerator.generateAsync(FILE_HASH, "image/png", Set.of(ImageVariant.AVATAR, ImageVariant.AVATAR_SMALL));
+        imageVariantGenerator.generateAsync(FILE_HASH, "image/png", Set.of(ImageVariant.AVATAR, ImageVariant.AVATAR_SMALL));
+        // then
+        assertThat(scheduledTasks).hasSize(1);
+    }
+
+    @Test
+    void shouldScheduleVariantAgainWhenExecutorRejectedIt() {
+        // given
+        List<Runnable> acceptedTasks = new ArrayList<>();
+        Executor saturatedExecutor = task -> {
+            if (scheduledTasks.isEmpty()) {
+                scheduledTasks.add(task);
+                throw new RejectedExecutionException("Queue is full");
+            }
+            acceptedTasks.add(task);
+        };
+        ImageVariantGenerator saturatedGenerator = new ImageVariantGenerator(imageStorage, saturatedExecutor);
+        // when
+        saturatedGenerator.generateAsync(FILE_HASH, "image/png", Set.of(ImageVariant.THUMBNAIL));
+        saturatedGenerator.generateAsync(FILE_HASH, "image/png", Set.of(ImageVariant.THUMBNAIL));
+        // then
+        assertThat(acceptedTasks).hasSize(1);
+    }
+
+    private static byte[] createImage(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+package pl.dreilt.iteventsapi.image.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+import pl.dreilt.iteventsapi.image.enumeration.ImageVariant;
+import pl.dreilt.iteventsapi.image.exception.ImageUploadRejectedException;
+import pl.dreilt.iteventsapi.image.processing.ImageVariantGenerator;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageUploadServiceImplUnitTest {
+    static final MockMultipartFile FILE = new MockMultipartFile("image.png", "image.png", "image/png", "image data".getBytes(StandardCharsets.UTF_8));
+    static final Set<ImageVariant> VARIANTS = Set.of(ImageVariant.THUMBNAIL);
+    private ImageStorage imageStorage;
+    private ImageVariantGenerator imageVariantGenerator;
+    private ImageUploadServiceImpl imageUploadServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        imageStorage = Mockito.mock(ImageStorage.class);
+        imageVariantGenerator = Mockito.mock(ImageVariantGenerator.class);
+        imageUploadServiceImpl = new ImageUploadServiceImpl(imageStorage, imageVariantGenerator, 1, 50);
+    }
+
+    @Test
+    void shouldStreamUploadToImageStorageAndScheduleVariants() {
+        // given
+        StoredImage storedImage = new StoredImage("hash", 10);
+        when(imageStorage.store(any(InputStream.class))).thenReturn(storedImage);
+        // when
+        StoredImage uploadedImage = imageUploadServiceImpl.upload(FILE, VARIANTS);
+        // then
+        assertThat(uploadedImage).isSameAs(storedImage);
+        verify(imageVariantGenerator).generateAsync("hash", "image/png", VARIANTS);
+    }
+
+    @Test
+    void shouldRejectUploadWhenAllPermitsAreTaken() throws Exception {
+        // given
+        CountDownLatch uploadStarted = new CountDownLatch(1);
+        CountDownLatch uploadReleased = new CountDownLatch(1);
+        when(imageStorage.store(any(InputStream.class))).thenAnswer(i -> {
+            uploadStarted.countDown();
+            uploadReleased.await();
+            return new StoredImage("hash", 10);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<StoredImage> pendingUpload = executor.submit(() -> imageUploadServiceImpl.upload(FILE, VARIANTS));
+            uploadStarted.await();
+            // when
+            // then
+            assertThatThrownBy(() -> imageUploadServiceImpl.upload(FILE, VARIANTS))
+                    .isInstanceOf(ImageUploadRejectedException.class);
+            uploadReleased.countDown();
+            assertThat(pendingUpload.get().getFileHash()).isEqualTo("hash");
+            assertThat(imageUploadServiceImpl.upload(FILE, VARIANTS).getFileHash()).isEqualTo("hash");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package pl.dreilt.iteventsapi.image.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pl.dreilt.iteventsapi.core.ContentHash;
+import pl.dreilt.iteventsapi.image.exception.ImageStorageException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class FileSystemImageStorageUnitTest {
+    static final byte[] FILE_DATA = "image data".getBytes(StandardCharsets.UTF_8);
+    static final String FILE_HASH = ContentHash.sha256(FILE_DATA);
+    @TempDir
+    Path rootDirectory;
+    private FileSystemImageStorage fileSystemImageStorage;
+
+    @BeforeEach
+    void setUp() {
+        fileSystemImageStorage = new FileSystemImageStorage(rootDirectory.toString());
+    }
+
+    @Test
+    void shouldStoreImageUnderContentAddress() {
+        // when
+        fileSystemImageStorage.store(FILE_HASH, FILE_DATA);
+        // then
+        Path file = rootDirectory.resolve(FILE_HASH.substring(0, 2)).resolve(FILE_HASH.substring(2, 4)).resolve(FILE_HASH);
+        assertThat(Files.exists(file)).isTrue();
+        assertThat(fileSystemImageStorage.exists(FILE_HASH)).isTrue();
+        assertThat(fileSystemImageStorage.read(FILE_HASH)).isEqualTo(FILE_DATA);
+        assertThat(fileSystemImageStorage.findLocalPath(FILE_HASH)).contains(file);
+    }
+
+    @Test
+    void shouldStoreSameImageOnlyOnce() throws Exception {
+        // given
+        fileSystemImageStorage.store(FILE_HASH, FILE_DATA);
+        // when
+        fileSystemImageStorage.store(FILE_HASH, FILE_DATA);
+        // then
+        try (var files = Files.walk(rootDirectory)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldStoreStreamedImageUnderItsDigest() throws Exception {
+        // given
+        fileSystemImageStorage.store(FILE_HASH, FILE_DATA);
+        // when
+        StoredImage storedImage = fileSystemImageStorage.store(new ByteArrayInputStream(FILE_DATA));
+        // then
+        assertThat(storedImage.getFileHash()).isEqualTo(FILE_HASH);
+        assertThat(storedImage.getFileSize()).isEqualTo(FILE_DATA.length);
+        assertThat(fileSystemImageStorage.read(FILE_HASH)).isEqualTo(FILE_DATA);
+        try (var files = Files.walk(rootDirectory)) {
+            assertThat(files.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldTransferRequestedRange() {
+        // given
+        fileSystemImageStorage.store(FILE_HASH, FILE_DATA);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // when
+        long transferred = fileSystemImageStorage.transferTo(FILE_HASH, 6, 4, Channels.newChannel(outputStream));
+        // then
+        assertThat(transferred).isEqualTo(4);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("data");
+    }
+
+    @Test
+    void shouldRejectInvalidImageHash() {
+        // then
+        assertThatThrownBy(() -> fileSystemImageStorage.read("../application.yml"))
+                .isInstanceOf(ImageStorageException.class)
+                .hasMessage("Invalid image hash ../application.yml");
+    }
+}
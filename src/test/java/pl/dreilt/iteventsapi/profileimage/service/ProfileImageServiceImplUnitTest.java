@@ -4,10 +4,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.web.multipart.MultipartFile;
 import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.core.ContentHash;
 import pl.dreilt.iteventsapi.creator.AppUserCreator;
 import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.image.service.ImageUploadService;
+import pl.dreilt.iteventsapi.image.storage.ImageStorage;
+import pl.dreilt.iteventsapi.image.storage.StoredImage;
 import pl.dreilt.iteventsapi.profileimage.model.ProfileImage;
 import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
 
@@ -15,38 +21,64 @@ import java.io.IOException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 class ProfileImageServiceImplUnitTest {
     private ProfileImageRepository profileImageRepository;
+    private ImageStorage imageStorage;
+    private ImageUploadService imageUploadService;
+    private PlatformTransactionManager transactionManager;
     private ProfileImageServiceImpl profileImageServiceImpl;
 
     @BeforeEach
     void setUp() {
         profileImageRepository = Mockito.mock(ProfileImageRepository.class);
-        profileImageServiceImpl = new ProfileImageServiceImpl(profileImageRepository);
+        imageStorage = Mockito.mock(ImageStorage.class);
+        imageUploadService = Mockito.mock(ImageUploadService.class);
+        transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        profileImageServiceImpl = new ProfileImageServiceImpl(profileImageRepository, imageStorage, imageUploadService, transactionManager);
     }
 
     @Test
-    void shouldReturnSavedDefaultProfileImage() {
+    void shouldSaveDefaultProfileImageOnlyOnce() {
         // given
-        when(profileImageRepository.save(any(ProfileImage.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(profileImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()).thenReturn(Optional.empty());
+        when(profileImageRepository.save(any(ProfileImage.class))).thenAnswer(i -> {
+            ProfileImage savedProfileImage = i.getArgument(0);
+            savedProfileImage.setId(1L);
+            return savedProfileImage;
+        });
         // when
-        ProfileImage createdDefaultProfileImage = profileImageServiceImpl.createDefaultProfileImage();
+        profileImageServiceImpl.getDefaultProfileImage();
+        profileImageServiceImpl.getDefaultProfileImage();
         // then
-        verify(profileImageRepository, times(1)).save(argThat((ProfileImage savedDefaultProfileImage) -> {
+        verify(profileImageRepository, times(1)).save(argThat((savedProfileImage) -> {
             Assertions.assertAll("Testing saved default profile image",
-                    () -> assertNull(savedDefaultProfileImage.getId()),
-                    () -> assertEquals(createdDefaultProfileImage.getFileName(), savedDefaultProfileImage.getFileName()),
-                    () -> assertEquals(createdDefaultProfileImage.getFileType(), savedDefaultProfileImage.getFileType()),
-                    () -> assertEquals(createdDefaultProfileImage.getFileData(), savedDefaultProfileImage.getFileData())
+                    () -> assertThat(savedProfileImage.isDefaultImage()).isTrue(),
+                    () -> assertThat(savedProfileImage.getFileType()).isEqualTo("image/png"),
+                    () -> assertThat(savedProfileImage.getFileHash()).isNotNull()
             );
             return true;
         }));
+        verify(profileImageRepository, times(2)).getReferenceById(1L);
+        verify(transactionManager, times(1)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void shouldReturnExistingDefaultProfileImage() {
+        // given
+        ProfileImage defaultProfileImage = ProfileImageCreator.createDefaultProfileImage(3L);
+        defaultProfileImage.setDefaultImage(true);
+        when(profileImageRepository.findFirstByDefaultImageTrueOrderByIdAsc()).thenReturn(Optional.of(defaultProfileImage));
+        // when
+        profileImageServiceImpl.getDefaultProfileImage();
+        // then
+        verify(profileImageRepository, never()).save(any(ProfileImage.class));
+        verify(profileImageRepository, times(1)).getReferenceById(3L);
     }
 
     @Test
@@ -54,12 +86,53 @@ class ProfileImageServiceImplUnitTest {
         // given
         AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
         MultipartFile newProfileImageFile = ProfileImageCreator.createNewProfileImageFile();
+        when(imageUploadService.upload(eq(newProfileImageFile), anySet())).thenReturn(storedImage(newProfileImageFile));
         // when
         Optional<ProfileImage> updatedProfileImage = profileImageServiceImpl.updateProfileImage(user, newProfileImageFile);
         // then
         assertThat(updatedProfileImage.isPresent()).isTrue();
         assertThat(updatedProfileImage.get().getFileName()).isEqualTo(newProfileImageFile.getOriginalFilename());
         assertThat(updatedProfileImage.get().getFileType()).isEqualTo(newProfileImageFile.getContentType());
-        assertThat(updatedProfileImage.get().getFileData()).isEqualTo(newProfileImageFile.getBytes());
+        assertThat(updatedProfileImage.get().getFileHash()).isEqualTo(ContentHash.sha256(newProfileImageFile.getBytes()));
+        assertThat(updatedProfileImage.get().getFileSize()).isEqualTo(newProfileImageFile.getSize());
+    }
+
+    @Test
+    void shouldCopyDefaultProfileImageOnUpdate() throws IOException {
+        // given
+        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
+        ProfileImage defaultProfileImage = user.getProfileImage();
+        defaultProfileImage.setDefaultImage(true);
+        byte[] defaultProfileImageData = defaultProfileImage.getFileData();
+        MultipartFile newProfileImageFile = ProfileImageCreator.createNewProfileImageFile();
+        when(imageUploadService.upload(eq(newProfileImageFile), anySet())).thenReturn(storedImage(newProfileImageFile));
+        when(profileImageRepository.save(any(ProfileImage.class))).thenAnswer(i -> i.getArguments()[0]);
+        // when
+        Optional<ProfileImage> updatedProfileImage = profileImageServiceImpl.updateProfileImage(user, newProfileImageFile);
+        // then
+        assertThat(updatedProfileImage.isPresent()).isTrue();
+        assertThat(updatedProfileImage.get()).isNotSameAs(defaultProfileImage);
+        assertThat(updatedProfileImage.get().isDefaultImage()).isFalse();
+        assertThat(updatedProfileImage.get().getFileHash()).isEqualTo(ContentHash.sha256(newProfileImageFile.getBytes()));
+        assertThat(defaultProfileImage.getFileData()).isSameAs(defaultProfileImageData);
+        verify(profileImageRepository, times(1)).save(updatedProfileImage.get());
+    }
+
+    @Test
+    void shouldNotUpdateUnchangedProfileImage() throws IOException {
+        // given
+        AppUser user = AppUserCreator.create(2L, "Jan", "Kowalski");
+        MultipartFile newProfileImageFile = ProfileImageCreator.createNewProfileImageFile();
+        user.getProfileImage().setFileData(newProfileImageFile.getBytes());
+        when(imageUploadService.upload(eq(newProfileImageFile), anySet())).thenReturn(storedImage(newProfileImageFile));
+        // when
+        Optional<ProfileImage> updatedProfileImage = profileImageServiceImpl.updateProfileImage(user, newProfileImageFile);
+        // then
+        assertThat(updatedProfileImage).isEmpty();
+        verify(profileImageRepository, never()).save(any(ProfileImage.class));
+    }
+
+    private static StoredImage storedImage(MultipartFile file) throws IOException {
+        return new StoredImage(ContentHash.sha256(file.getBytes()), file.getSize());
     }
 }
@@ -0,0 +1,99 @@
+package pl.dreilt.iteventsapi.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import pl.dreilt.iteventsapi.security.JwtUtilsUnitTest.MutableClock;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppUserDetailsCacheUnitTest {
+    private MutableClock clock;
+    private MeterRegistry meterRegistry;
+    private AppUserDetailsCache appUserDetailsCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-18T12:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        appUserDetailsCache = new AppUserDetailsCache(60, 2, meterRegistry, clock);
+    }
+
+    @Test
+    void shouldReturnCachedUserDetails() {
+        // given
+        UserDetails userDetails = createUserDetails("jankowalski@example.com");
+        appUserDetailsCache.putUserInCache(userDetails);
+        // when
+        UserDetails cachedUserDetails = appUserDetailsCache.getUserFromCache("jankowalski@example.com");
+        // then
+        assertThat(cachedUserDetails).isSameAs(userDetails);
+        assertThat(countGets("hit")).isEqualTo(1);
+        assertThat(countGets("miss")).isZero();
+    }
+
+    @Test
+    void shouldCountMissWhenUserDetailsAreNotCached() {
+        // given
+        // when
+        UserDetails cachedUserDetails = appUserDetailsCache.getUserFromCache("jankowalski@example.com");
+        // then
+        assertThat(cachedUserDetails).isNull();
+        assertThat(countGets("hit")).isZero();
+        assertThat(countGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireUserDetailsAfterTtl() {
+        // given
+        appUserDetailsCache.putUserInCache(createUserDetails("jankowalski@example.com"));
+        clock.advance(Duration.ofSeconds(61));
+        // when
+        UserDetails cachedUserDetails = appUserDetailsCache.getUserFromCache("jankowalski@example.com");
+        // then
+        assertThat(cachedUserDetails).isNull();
+        assertThat(countGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRemoveUserDetailsFromCache() {
+        // given
+        appUserDetailsCache.putUserInCache(createUserDetails("jankowalski@example.com"));
+        // when
+        appUserDetailsCache.removeUserFromCache("jankowalski@example.com");
+        // then
+        assertThat(appUserDetailsCache.getUserFromCache("jankowalski@example.com")).isNull();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedUserDetailsWhenCacheIsFull() {
+        // given
+        appUserDetailsCache.putUserInCache(createUserDetails("jankowalski@example.com"));
+        appUserDetailsCache.putUserInCache(createUserDetails("jannowak@example.com"));
+        appUserDetailsCache.getUserFromCache("jankowalski@example.com");
+        // when
+        appUserDetailsCache.putUserInCache(createUserDetails("janwisniewski@example.com"));
+        // then
+        assertThat(appUserDetailsCache.getUserFromCache("janwisniewski@example.com")).isNotNull();
+        assertThat(appUserDetailsCache.getUserFromCache("jankowalski@example.com")).isNotNull();
+        assertThat(appUserDetailsCache.getUserFromCache("jannowak@example.com")).isNull();
+        assertThat(meterRegistry.get("cache.size").tag("cache", "principal").gauge().value()).isEqualTo(2);
+    }
+
+    private UserDetails createUserDetails(String username) {
+        return User.withUsername(username)
+                .password("password")
+                .roles("USER")
+                .build();
+    }
+
+    private double countGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,51 @@
+package pl.dreilt.iteventsapi.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import pl.dreilt.iteventsapi.appuser.model.AppUser;
+import pl.dreilt.iteventsapi.appuser.repository.AppUserRepository;
+import pl.dreilt.iteventsapi.creator.AppUserCreator;
+import pl.dreilt.iteventsapi.creator.ProfileImageCreator;
+import pl.dreilt.iteventsapi.profileimage.repository.ProfileImageRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthenticationIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private AppUserRepository appUserRepository;
+    @Autowired
+    private ProfileImageRepository profileImageRepository;
+
+    @Test
+    @Transactional
+    void shouldRehashPasswordWithCalibratedStrengthAfterSuccessfulLogin() throws Exception {
+        // given
+        AppUser user = appUserRepository.save(AppUserCreator.create("Jan", "Kowalski", profileImageRepository.save(ProfileImageCreator.createDefaultProfileImage())));
+        assertThat(user.getPassword()).startsWith("{bcrypt}$2a$10$");
+        // when
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post("/api/v1/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\": \"" + user.getEmail() + "\", \"password\": \"tests\"}");
+        mockMvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+        // then
+        assertThat(appUserRepository.findByEmail(user.getEmail()).orElseThrow().getPassword()).startsWith("{bcrypt}$2a$04$");
+    }
+}
@@ -0,0 +1,81 @@
+package pl.dreilt.iteventsapi.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import pl.dreilt.iteventsapi.security.exception.PasswordHashingRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderUnitTest {
+    private PasswordEncoder delegate;
+    private ThreadPoolTaskExecutor executor;
+    private MeterRegistry meterRegistry;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(PasswordEncoder.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        boundedPasswordEncoder = new BoundedPasswordEncoder(delegate, executor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldHashPasswordOnExecutorThread() {
+        // given
+        when(delegate.encode("tests")).thenAnswer(i -> Thread.currentThread().getName());
+        // when
+        String encodedPassword = boundedPasswordEncoder.encode("tests");
+        // then
+        assertThat(encodedPassword).isNotEqualTo(Thread.currentThread().getName());
+        assertThat(meterRegistry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectPasswordHashingWhenExecutorIsSaturated() throws Exception {
+        // given
+        CountDownLatch hashingStarted = new CountDownLatch(1);
+        CountDownLatch hashingReleased = new CountDownLatch(1);
+        when(delegate.matches("tests", "encoded")).thenAnswer(i -> {
+            hashingStarted.countDown();
+            hashingReleased.await();
+            return true;
+        });
+        ExecutorService requestThreads = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> pendingMatch = requestThreads.submit(() -> boundedPasswordEncoder.matches("tests", "encoded"));
+            hashingStarted.await();
+            // when
+            // then
+            assertThatThrownBy(() -> boundedPasswordEncoder.matches("tests", "encoded"))
+                    .isInstanceOf(PasswordHashingRejectedException.class);
+            hashingReleased.countDown();
+            assertThat(pendingMatch.get()).isTrue();
+            assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        } finally {
+            requestThreads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package pl.dreilt.iteventsapi.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderUnitTest {
+
+    @Test
+    void shouldUpgradeHashWithDifferentStrength() {
+        // given
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+        String weakerHash = new BCryptPasswordEncoder(4).encode("tests");
+        String strongerHash = new BCryptPasswordEncoder(6).encode("tests");
+        // when
+        // then
+        assertThat(passwordEncoder.upgradeEncoding(weakerHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(strongerHash)).isTrue();
+    }
+
+    @Test
+    void shouldNotUpgradeHashWithSameStrength() {
+        // given
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5);
+        String hash = passwordEncoder.encode("tests");
+        // when
+        // then
+        assertThat(passwordEncoder.upgradeEncoding(hash)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding("not a bcrypt hash")).isFalse();
+    }
+
+    @Test
+    void shouldCalibrateStrengthWithinBounds() {
+        // given
+        // when
+        CalibratedBCryptPasswordEncoder fastest = CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 6);
+        CalibratedBCryptPasswordEncoder slowest = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 4, 6);
+        CalibratedBCryptPasswordEncoder fixed = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofHours(1), 7, 7);
+        // then
+        assertThat(fastest.getStrength()).isEqualTo(4);
+        assertThat(slowest.getStrength()).isEqualTo(6);
+        assertThat(fixed.getStrength()).isEqualTo(7);
+    }
+}
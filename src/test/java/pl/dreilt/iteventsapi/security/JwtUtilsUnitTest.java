@@ -0,0 +1,107 @@
+package pl.dreilt.iteventsapi.security;
+
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+class JwtUtilsUnitTest {
+    static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private MutableClock clock;
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-18T12:00:00Z"));
+        jwtUtils = new JwtUtils(SECRET, 2, clock);
+    }
+
+    @Test
+    void shouldReturnUsernameOfVerifiedToken() {
+        // given
+        String token = jwtUtils.generateToken("jankowalski@example.com");
+        // when
+        VerifiedToken verifiedToken = jwtUtils.verifyToken(token);
+        VerifiedToken cachedToken = jwtUtils.verifyToken(token);
+        // then
+        assertThat(verifiedToken.getUsername()).isEqualTo("jankowalski@example.com");
+        assertThat(verifiedToken.getExpiresAtMillis()).isEqualTo(clock.instant().plus(Duration.ofDays(1)).toEpochMilli());
+        assertThat(cachedToken).isSameAs(verifiedToken);
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        // given
+        String token = new JwtUtils("another secret", 2, clock).generateToken("jankowalski@example.com");
+        // when
+        // then
+        assertThatThrownBy(() -> jwtUtils.verifyToken(token))
+                .isInstanceOf(SignatureVerificationException.class);
+    }
+
+    @Test
+    void shouldRejectCachedTokenAfterItExpires() {
+        // given
+        String token = jwtUtils.generateToken("jankowalski@example.com");
+        jwtUtils.verifyToken(token);
+        clock.advance(Duration.ofDays(1).plusSeconds(1));
+        // when
+        // then
+        assertThatThrownBy(() -> jwtUtils.verifyToken(token))
+                .isInstanceOf(TokenExpiredException.class);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedTokenWhenCacheIsFull() {
+        // given
+        String firstToken = jwtUtils.generateToken("jankowalski@example.com");
+        String secondToken = jwtUtils.generateToken("jannowak@example.com");
+        String thirdToken = jwtUtils.generateToken("janwisniewski@example.com");
+        VerifiedToken firstVerifiedToken = jwtUtils.verifyToken(firstToken);
+        VerifiedToken secondVerifiedToken = jwtUtils.verifyToken(secondToken);
+        jwtUtils.verifyToken(firstToken);
+        // when
+        VerifiedToken thirdVerifiedToken = jwtUtils.verifyToken(thirdToken);
+        // then
+        assertThat(thirdVerifiedToken.getUsername()).isEqualTo("janwisniewski@example.com");
+        assertThat(jwtUtils.verifyToken(thirdToken)).isSameAs(thirdVerifiedToken);
+        assertThat(jwtUtils.verifyToken(firstToken)).isSameAs(firstVerifiedToken);
+        assertThat(jwtUtils.verifyToken(secondToken)).isNotSameAs(secondVerifiedToken);
+    }
+
+    static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}